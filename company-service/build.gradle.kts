@@ -2,6 +2,7 @@ plugins {
     id("java")
     id("org.springframework.boot") version("3.5.4")
     id("io.spring.dependency-management") version ("1.1.7")
+    id("me.champeau.jmh") version ("0.7.3")
 }
 
 group = "company-service"
@@ -30,6 +31,8 @@ dependencies {
 
     // postgres
     runtimeOnly("org.postgresql:postgresql")
+    // read model upsert guards run on a real postgres
+    testImplementation("io.zonky.test:embedded-postgres:2.1.0")
 
     // lombok
     compileOnly("org.projectlombok:lombok")
@@ -41,6 +44,25 @@ dependencies {
     // kafka
     implementation("org.springframework.kafka:spring-kafka")
 
+    // metrics
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+    // @Timed service methods
+    implementation("org.springframework.boot:spring-boot-starter-aop")
+
+    // tracing: micrometer observations exported through OpenTelemetry
+    implementation("io.micrometer:micrometer-tracing-bridge-otel")
+    implementation("io.opentelemetry:opentelemetry-exporter-otlp")
+    // jdbc connection and query spans
+    implementation("net.ttddyy.observation:datasource-micrometer-spring-boot:1.1.0")
+
+    // second-level cache
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("com.github.ben-manes.caffeine:jcache")
+
+    // jmh (in-memory database for service benchmarks)
+    jmhRuntimeOnly("com.h2database:h2")
+
 }
 
 dependencyManagement {
@@ -49,6 +71,13 @@ dependencyManagement {
     }
 }
 
+jmh {
+    jmhVersion.set("1.37")
+    // allocation rate next to throughput and sample-time percentiles
+    profilers.add("gc")
+    resultFormat.set("JSON")
+}
+
 tasks.test {
     useJUnitPlatform()
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package company.benchmarks;
+
+import company.repository.entities.CompanyEntity;
+import company.web.dto.response.EmployeeResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic benchmark fixtures: the same seed gives the same ids in every fork
+ */
+final class BenchmarkData {
+
+    private final Random random;
+
+    BenchmarkData(long seed) {
+        this.random = new Random(seed);
+    }
+
+    UUID nextId() {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+
+    List<UUID> ids(int count) {
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(nextId());
+        }
+        return ids;
+    }
+
+    CompanyEntity company(int employees) {
+        UUID id = nextId();
+        return new CompanyEntity(id, "Company " + id.toString().substring(0, 8), "1000000", ids(employees));
+    }
+
+    List<EmployeeResponse> employees(CompanyEntity company) {
+        List<EmployeeResponse> employees = new ArrayList<>(company.getEmployeeIds().size());
+        int i = 0;
+        for (UUID employeeId : company.getEmployeeIds()) {
+            employees.add(new EmployeeResponse(employeeId, "First" + i, "Last" + i, "+1-555-" + (1000000 + i), company.getId()));
+            i++;
+        }
+        return employees;
+    }
+
+}
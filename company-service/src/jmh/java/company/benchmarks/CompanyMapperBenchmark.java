@@ -0,0 +1,56 @@
+package company.benchmarks;
+
+import company.repository.entities.CompanyEntity;
+import company.web.dto.request.CompanyRequest;
+import company.web.dto.response.CompanyFullResponse;
+import company.web.dto.response.CompanyResponse;
+import company.web.dto.response.EmployeeResponse;
+import company.web.dto.response.mappers.CompanyMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompanyMapperBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int employees;
+
+    private final CompanyMapper companyMapper = new CompanyMapper();
+
+    private CompanyEntity company;
+    private CompanyRequest request;
+    private List<EmployeeResponse> employeeResponses;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkData data = new BenchmarkData(42);
+        company = data.company(employees);
+        request = new CompanyRequest(company.getName(), company.getBudget(), company.getEmployeeIds());
+        employeeResponses = data.employees(company);
+    }
+
+    // deduplicates request employees
+    @Benchmark
+    public CompanyEntity toEntity() {
+        return companyMapper.toEntity(UUID.randomUUID(), request);
+    }
+
+    @Benchmark
+    public CompanyResponse toResponse() {
+        return companyMapper.toResponse(company);
+    }
+
+    @Benchmark
+    public CompanyFullResponse toFullResponse() {
+        return companyMapper.toFullResponse(company, employeeResponses);
+    }
+
+}
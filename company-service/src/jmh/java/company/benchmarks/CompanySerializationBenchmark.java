@@ -0,0 +1,75 @@
+package company.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import company.repository.entities.CompanyEntity;
+import company.web.dto.response.CompanyFullResponse;
+import company.web.dto.response.CompanyResponse;
+import company.web.dto.response.mappers.CompanyMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response bodies as the controllers write them, with an ObjectMapper built like the Spring Boot one
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompanySerializationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1", "100", "10000"})
+    private int employees;
+
+    private ObjectMapper objectMapper;
+
+    private CompanyResponse response;
+    private CompanyFullResponse fullResponse;
+    private Page<CompanyFullResponse> fullPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        CompanyMapper companyMapper = new CompanyMapper();
+        BenchmarkData data = new BenchmarkData(42);
+
+        CompanyEntity company = data.company(employees);
+        response = companyMapper.toResponse(company);
+        fullResponse = companyMapper.toFullResponse(company, data.employees(company));
+
+        List<CompanyFullResponse> content = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            CompanyEntity pageCompany = data.company(employees);
+            content.add(companyMapper.toFullResponse(pageCompany, data.employees(pageCompany)));
+        }
+        fullPage = new PageImpl<>(content, PageRequest.of(0, PAGE_SIZE), 1000);
+    }
+
+    @Benchmark
+    public byte[] companyResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] companyFullResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(fullResponse);
+    }
+
+    // getAllCompanies extraInfo page: PAGE_SIZE companies of `employees` each
+    @Benchmark
+    public byte[] companyFullResponsePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(fullPage);
+    }
+
+}
@@ -0,0 +1,70 @@
+package company.benchmarks;
+
+import company.service.company.contracts.CompanyService;
+import company.web.dto.response.contracts.Company;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service reads end to end: transaction, repositories (second-level cache included), read model and assembly.
+ * Sample time mode reports latency percentiles; run with -prof gc for allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CompanyServiceBenchmark {
+
+    private static final int COMPANIES = 20;
+
+    @Param({"1", "100", "10000"})
+    private int employees;
+
+    private ConfigurableApplicationContext context;
+    private CompanyService companyService;
+    private List<UUID> companyIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ServiceBenchmarkContext.start();
+        companyService = context.getBean(CompanyService.class);
+        companyIds = ServiceBenchmarkContext.seed(context.getBean(JdbcTemplate.class), new BenchmarkData(42), COMPANIES, employees);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Company readCompany() {
+        return companyService.readCompany(nextCompany(), false);
+    }
+
+    @Benchmark
+    public Company readCompanyExtraInfo() {
+        return companyService.readCompany(nextCompany(), true);
+    }
+
+    // one page of all companies: the getAllCompanies assembly loop over COMPANIES * employees
+    @Benchmark
+    public Page<? extends Company> getAllCompaniesExtraInfo() {
+        return companyService.getAllCompanies(PageRequest.of(0, COMPANIES), true);
+    }
+
+    private UUID nextCompany() {
+        next = (next + 1) % companyIds.size();
+        return companyIds.get(next);
+    }
+
+}
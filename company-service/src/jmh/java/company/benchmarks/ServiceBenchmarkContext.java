@@ -0,0 +1,109 @@
+package company.benchmarks;
+
+import company.service.company.CompanyEntityCache;
+import company.service.company.implementations.CompanyServiceImpl;
+import company.service.configurations.DiscoveryConfiguration;
+import company.service.configurations.EmployeeClientConfiguration;
+import company.service.configurations.EmployeeReadModelConfiguration;
+import company.service.employee.EmployeeClient;
+import company.service.employee.EmployeeReadModel;
+import company.service.kafka.KafkaProducerService;
+import company.service.outbox.OutboxTraceContext;
+import company.web.dto.response.EmployeeBatchResponse;
+import company.web.dto.response.mappers.CompanyMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Company service layer without web server, Kafka listeners, outbox relay and discovery.
+ * Repositories run against in-memory H2 (application-benchmark.properties), employee-service is stubbed.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EntityScan("company.repository.entities")
+@EnableJpaRepositories("company.repository")
+@Import({
+        CompanyServiceImpl.class,
+        CompanyMapper.class,
+        CompanyEntityCache.class,
+        KafkaProducerService.class,
+        OutboxTraceContext.class,
+        EmployeeReadModel.class,
+        EmployeeReadModelConfiguration.class,
+        EmployeeClientConfiguration.class,
+        DiscoveryConfiguration.class
+})
+public class ServiceBenchmarkContext {
+
+    // only reached by a cold read model; seeded employees are all local
+    @Bean
+    public EmployeeClient employeeClient(DiscoveryConfiguration discoveryConfiguration, EmployeeClientConfiguration clientConfiguration, MeterRegistry meterRegistry) {
+        return new EmployeeClient(discoveryConfiguration, clientConfiguration, WebClient.builder(), meterRegistry) {
+            @Override
+            public EmployeeBatchResponse getEmployees(Collection<UUID> ids) {
+                return new EmployeeBatchResponse(List.of(), new ArrayList<>(ids));
+            }
+        };
+    }
+
+    static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(ServiceBenchmarkContext.class)
+                .profiles("benchmark")
+                // must be known before application.properties imports the config server
+                .properties("spring.cloud.config.enabled=false")
+                .run();
+    }
+
+    /**
+     * Inserts companies with their memberships and employee summaries
+     * @param jdbcTemplate benchmark database
+     * @param data fixtures
+     * @param companies companies
+     * @param employees employees per company
+     * @return company ids
+     */
+    static List<UUID> seed(JdbcTemplate jdbcTemplate, BenchmarkData data, int companies, int employees) {
+        List<UUID> companyIds = new ArrayList<>(companies);
+        Timestamp changedAt = Timestamp.from(Instant.now());
+
+        for (int c = 0; c < companies; c++) {
+            UUID companyId = data.nextId();
+            List<UUID> employeeIds = data.ids(employees);
+            companyIds.add(companyId);
+
+            jdbcTemplate.update("insert into company_table (id, company_name, budget) values (?, ?, ?)",
+                    companyId, "Company " + c, "1000000");
+            jdbcTemplate.batchUpdate("insert into company_employee_ids (company_id, employee_id) values (?, ?)",
+                    employeeIds, 1000, (statement, employeeId) -> {
+                        statement.setObject(1, companyId);
+                        statement.setObject(2, employeeId);
+                    });
+            jdbcTemplate.batchUpdate("insert into employee_summary_table (id, first_name, last_name, phone_number, deleted, changed_at) values (?, ?, ?, ?, false, ?)",
+                    employeeIds, 1000, (statement, employeeId) -> {
+                        statement.setObject(1, employeeId);
+                        statement.setString(2, "First");
+                        statement.setString(3, "Last");
+                        statement.setString(4, "+1-555-0100");
+                        statement.setTimestamp(5, changedAt);
+                    });
+        }
+        return companyIds;
+    }
+
+}
@@ -0,0 +1,22 @@
+package company.repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface CompanyMembershipRepository {
+
+    /**
+     * Inserts missing (company_id, employee_id) rows, existing ones are kept as is
+     * @param companyId company
+     * @param employeeIds employees
+     */
+    void addEmployees(UUID companyId, Collection<UUID> employeeIds);
+
+    /**
+     * Deletes (company_id, employee_id) rows, missing ones are ignored
+     * @param companyId company
+     * @param employeeIds employees
+     */
+    void removeEmployees(UUID companyId, Collection<UUID> employeeIds);
+
+}
@@ -0,0 +1,40 @@
+package company.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public class CompanyMembershipRepositoryImpl implements CompanyMembershipRepository {
+
+    private static final String INSERT =
+            "insert into company_employee_ids (company_id, employee_id) values (?, ?) on conflict do nothing";
+    private static final String DELETE =
+            "delete from company_employee_ids where company_id = ? and employee_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public CompanyMembershipRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void addEmployees(UUID companyId, Collection<UUID> employeeIds) {
+        execute(INSERT, companyId, employeeIds);
+    }
+
+    @Override
+    public void removeEmployees(UUID companyId, Collection<UUID> employeeIds) {
+        execute(DELETE, companyId, employeeIds);
+    }
+
+    private void execute(String sql, UUID companyId, Collection<UUID> employeeIds) {
+        jdbcTemplate.batchUpdate(sql, employeeIds, employeeIds.size(), (statement, employeeId) -> {
+            statement.setObject(1, companyId);
+            statement.setObject(2, employeeId);
+        });
+    }
+
+}
@@ -1,14 +1,53 @@
 package company.repository;
 
 import company.repository.entities.CompanyEntity;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface CompanyRepository extends JpaRepository<CompanyEntity, UUID> {
+public interface CompanyRepository extends JpaRepository<CompanyEntity, UUID>, CompanyMembershipRepository {
 
+    // cached query: results are invalidated on company_table writes of this instance
+    // and by company-evict-company events of the others
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<CompanyEntity> findByName(String name);
+
+    // keyset pagination: (company_name, id) order without offset and count queries
+
+    @Query("select c from CompanyEntity c order by c.name, c.id")
+    List<CompanyEntity> findFirstKeysetPage(Pageable limit);
+
+    @Query("select c from CompanyEntity c " +
+            "where c.name > :name or (c.name = :name and c.id > :id) " +
+            "order by c.name, c.id")
+    List<CompanyEntity> findKeysetPageAfter(@Param("name") String name, @Param("id") UUID id, Pageable limit);
+
+    // forward-only export cursors, must be consumed and closed inside a transaction
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select c from CompanyEntity c order by c.id")
+    Stream<CompanyEntity> streamAllOrderById();
+
+    // [companyId, employeeId] rows in the same company order as streamAllOrderById
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "2000"))
+    @Query("select c.id, e from CompanyEntity c join c.employeeIds e order by c.id")
+    Stream<Object[]> streamAllEmployeeIdsOrderByCompanyId();
+
 }
@@ -0,0 +1,21 @@
+package company.repository;
+
+import company.repository.entities.EmployeeSummaryEntity;
+
+import java.util.Collection;
+
+public interface EmployeeSummaryBulkRepository {
+
+    /**
+     * Inserts or overwrites summaries, rows of a higher employee version than the given ones are kept as is
+     * @param summaries employee summaries
+     */
+    void upsertAll(Collection<EmployeeSummaryEntity> summaries);
+
+    /**
+     * Inserts missing summaries, existing rows are kept as is
+     * @param summaries employee summaries
+     */
+    void insertMissing(Collection<EmployeeSummaryEntity> summaries);
+
+}
@@ -0,0 +1,49 @@
+package company.repository;
+
+import company.repository.entities.EmployeeSummaryEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+
+public class EmployeeSummaryBulkRepositoryImpl implements EmployeeSummaryBulkRepository {
+
+    private static final String INSERT =
+            "insert into employee_summary_table (id, first_name, last_name, phone_number, deleted, version, changed_at) values (?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPSERT = INSERT +
+            " on conflict (id) do update set first_name = excluded.first_name, last_name = excluded.last_name," +
+            " phone_number = excluded.phone_number, deleted = excluded.deleted, version = excluded.version, changed_at = excluded.changed_at" +
+            " where employee_summary_table.version < excluded.version";
+    private static final String INSERT_MISSING = INSERT + " on conflict (id) do nothing";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public EmployeeSummaryBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void upsertAll(Collection<EmployeeSummaryEntity> summaries) {
+        execute(UPSERT, summaries);
+    }
+
+    @Override
+    public void insertMissing(Collection<EmployeeSummaryEntity> summaries) {
+        execute(INSERT_MISSING, summaries);
+    }
+
+    private void execute(String sql, Collection<EmployeeSummaryEntity> summaries) {
+        jdbcTemplate.batchUpdate(sql, summaries, summaries.size(), (statement, summary) -> {
+            statement.setObject(1, summary.getId());
+            statement.setString(2, summary.getFirstName());
+            statement.setString(3, summary.getLastName());
+            statement.setString(4, summary.getPhone());
+            statement.setBoolean(5, summary.isDeleted());
+            statement.setLong(6, summary.getVersion());
+            statement.setTimestamp(7, Timestamp.from(summary.getChangedAt()));
+        });
+    }
+
+}
@@ -0,0 +1,16 @@
+package company.repository;
+
+import company.repository.entities.EmployeeSummaryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EmployeeSummaryRepository extends JpaRepository<EmployeeSummaryEntity, UUID>, EmployeeSummaryBulkRepository {
+
+    List<EmployeeSummaryEntity> findAllByIdInAndDeletedFalse(Collection<UUID> ids);
+
+}
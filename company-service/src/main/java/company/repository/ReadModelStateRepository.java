@@ -0,0 +1,9 @@
+package company.repository;
+
+import company.repository.entities.ReadModelStateEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReadModelStateRepository extends JpaRepository<ReadModelStateEntity, String> {
+}
@@ -2,16 +2,23 @@ package company.repository.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "company_table")
+@Table(
+    name = "company_table",
+    indexes = @Index(name = "company_name_id_idx", columnList = "company_name, id")
+)
 public class CompanyEntity {
 
     @Id
@@ -24,9 +31,11 @@ public class CompanyEntity {
     private String budget;
 
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @CollectionTable(
         name = "company_employee_ids",
-        joinColumns = @JoinColumn(name = "company_id")
+        joinColumns = @JoinColumn(name = "company_id"),
+        uniqueConstraints = @UniqueConstraint(name = "company_employee_ids_uk", columnNames = {"company_id", "employee_id"})
     )
     @Column(name = "employee_id")
     private List<UUID> employeeIds;
@@ -0,0 +1,40 @@
+package company.repository.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "employee_summary_table")
+public class EmployeeSummaryEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "first_name")
+    private String firstName;
+
+    @Column(name = "last_name")
+    private String lastName;
+
+    @Column(name = "phone_number")
+    private String phone;
+
+    // deleted employees are kept so that older snapshot rows cannot bring them back
+    @Column(name = "deleted", nullable = false)
+    private boolean deleted;
+
+    // employee-service row version, -1 for snapshot rows: changes with lower or equal versions are ignored
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default -1")
+    private long version;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+}
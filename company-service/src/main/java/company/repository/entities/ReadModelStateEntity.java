@@ -0,0 +1,24 @@
+package company.repository.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+// completed bootstraps of local projections, shared by all instances
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "read_model_state_table")
+public class ReadModelStateEntity {
+
+    @Id
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "bootstrapped_at", nullable = false)
+    private Instant bootstrappedAt;
+
+}
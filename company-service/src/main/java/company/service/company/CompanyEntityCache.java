@@ -0,0 +1,56 @@
+package company.service.company;
+
+import company.repository.entities.CompanyEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * Evicts this instance's second-level cache entries of a company.
+ */
+@Component
+public class CompanyEntityCache {
+
+    private static final String EMPLOYEE_IDS_ROLE = CompanyEntity.class.getName() + ".employeeIds";
+
+    private final Cache cache;
+
+    @Autowired
+    public CompanyEntityCache(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    /**
+     * Evicts the company, its employeeIds and cached query results (findByName)
+     * @param companyId company
+     */
+    public void evict(UUID companyId) {
+        cache.evictEntityData(CompanyEntity.class, companyId);
+        cache.evictCollectionData(EMPLOYEE_IDS_ROLE, companyId);
+        cache.evictDefaultQueryRegion();
+    }
+
+    /**
+     * Evicts the company employeeIds written with JDBC, Hibernate does not see these writes.
+     * Evicted again after commit: a concurrent read must not cache the uncommitted state back
+     * @param companyId company
+     */
+    public void evictEmployees(UUID companyId) {
+        cache.evictCollectionData(EMPLOYEE_IDS_ROLE, companyId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.evictCollectionData(EMPLOYEE_IDS_ROLE, companyId);
+                }
+            });
+        }
+    }
+
+}
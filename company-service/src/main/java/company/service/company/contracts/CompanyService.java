@@ -2,10 +2,13 @@ package company.service.company.contracts;
 
 import company.repository.entities.CompanyEntity;
 import company.web.dto.request.CompanyRequest;
+import company.web.dto.response.CursorPage;
 import company.web.dto.response.contracts.Company;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.UUID;
 
 public interface CompanyService {
@@ -16,4 +19,7 @@ public interface CompanyService {
     CompanyEntity deleteCompany(UUID id);
 
     Page<? extends Company> getAllCompanies(Pageable pageable, boolean extraInfo);
+    CursorPage<? extends Company> getCompaniesAfter(String cursor, int size, boolean extraInfo, boolean withTotal);
+
+    long exportCompanies(OutputStream out, boolean withEmployees) throws IOException;
 }
@@ -1,49 +1,81 @@
 package company.service.company.implementations;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import company.repository.CompanyRepository;
 import company.repository.entities.CompanyEntity;
+import company.service.company.CompanyEntityCache;
 import company.service.company.contracts.CompanyService;
-import company.service.employee.EmployeeClient;
+import company.service.employee.EmployeeReadModel;
 import company.service.kafka.KafkaProducerService;
-import company.service.messages.company.ChangeCompanyEvent;
-import company.service.messages.company.ClearCompanyEvent;
+import company.service.logging.Payloads;
+import company.service.messages.company.BatchChangeCompanyEvent;
+import company.service.messages.company.BatchClearCompanyEvent;
+import company.service.messages.company.EvictCompanyEvent;
+import company.service.pagination.KeysetCursor;
 import company.web.controllers.exceptions.CompanyAlreadyRegisteredException;
 import company.web.dto.request.CompanyRequest;
 import company.web.dto.response.CompanyFullResponse;
 import company.web.dto.response.CompanyResponse;
+import company.web.dto.response.CursorPage;
 import company.web.dto.response.EmployeeResponse;
 import company.web.dto.response.contracts.Company;
 import company.web.dto.response.mappers.CompanyMapper;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @Transactional
+@Timed(value = "company.service", histogram = true)
 public class CompanyServiceImpl implements CompanyService {
 
     private final CompanyRepository companyRepository;
     private final KafkaProducerService kafkaProducerService;
-    private final EmployeeClient employeeClient;
+    private final EmployeeReadModel employeeReadModel;
+    private final CompanyEntityCache companyEntityCache;
     private final CompanyMapper companyMapper;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
+    private static final int MAX_KEYSET_PAGE_SIZE = 1000;
+    private static final int MAX_EVENT_EMPLOYEES = 5000;
 
     @Autowired
-    public CompanyServiceImpl(CompanyRepository companyRepository, KafkaProducerService kafkaProducerService, EmployeeClient employeeClient, CompanyMapper companyMapper) {
+    public CompanyServiceImpl(CompanyRepository companyRepository, KafkaProducerService kafkaProducerService, EmployeeReadModel employeeReadModel, CompanyEntityCache companyEntityCache, CompanyMapper companyMapper, EntityManager entityManager, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
         this.companyRepository = companyRepository;
         this.kafkaProducerService = kafkaProducerService;
-        this.employeeClient = employeeClient;
+        this.employeeReadModel = employeeReadModel;
+        this.companyEntityCache = companyEntityCache;
         this.companyMapper = companyMapper;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
@@ -52,21 +84,20 @@ public class CompanyServiceImpl implements CompanyService {
 
         UUID id = UUID.randomUUID();
 
-        // company employees
-        if (!(request.getEmployeeIds().isEmpty())) {
-            request.getEmployeeIds().forEach(eId ->
-                kafkaProducerService.sendChangeCompany(new ChangeCompanyEvent(eId, id))
-            );
-        }
-
         // company existence check
         if (companyRepository.findByName(request.getName()).isPresent()) {
             throw new CompanyAlreadyRegisteredException(request.getName());
         }
 
-        CompanyEntity companyEntity = companyMapper.toEntity(id, request);
-        log.info("Returning created company: {}", companyEntity);
-        return companyRepository.saveAndFlush(companyEntity);
+        CompanyEntity companyEntity = companyRepository.saveAndFlush(companyMapper.toEntity(id, request));
+
+        // company employees
+        sendChangeCompany(id, companyEntity.getEmployeeIds());
+
+        // other instances' cached findByName results
+        kafkaProducerService.sendEvictCompanyEntity(new EvictCompanyEvent(id));
+        log.info("Returning created company: {}", Payloads.summary(companyEntity));
+        return companyEntity;
     }
 
     @Override
@@ -76,21 +107,16 @@ public class CompanyServiceImpl implements CompanyService {
 
         // extraInfo - employees data
         if (extraInfo) {
-            List<EmployeeResponse> employees = new ArrayList<>();
-
-            // employee ids requests
-            for (UUID eId : company.getEmployeeIds()) {
-                try {
-                    EmployeeResponse employee = employeeClient.getEmployee(eId);
-                    employees.add(employee);
-                } catch (Exception ignored) {}
-            }
-            CompanyFullResponse response = companyMapper.toFullResponse(company, employees);
-            log.info("Returning company: {}", response);
+
+            // employees from the local read model
+            Map<UUID, EmployeeResponse> employees = employeeReadModel.findCompanyEmployees(id, company.getEmployeeIds());
+            meterRegistry.summary("company.extra-info.employees").record(company.getEmployeeIds().size());
+            CompanyFullResponse response = companyMapper.toFullResponse(company, collectEmployees(company, employees));
+            log.info("Returning company: {}", Payloads.summary(response));
             return response;
         }
         CompanyResponse response = companyMapper.toResponse(company);
-        log.info("Returning company: {}", response);
+        log.info("Returning company: {}", Payloads.summary(response));
         return response;
     }
 
@@ -98,24 +124,44 @@ public class CompanyServiceImpl implements CompanyService {
     @Transactional
     public CompanyEntity updateCompany(UUID id, CompanyRequest request) {
 
-        CompanyEntity company = findCompanyOrThrow(id);
-
-        // request idempotency check
-        if (company.getEmployeeIds() != request.getEmployeeIds() && request.getEmployeeIds() != null) {
-            company.getEmployeeIds().forEach(eId ->
-                    kafkaProducerService.sendClearCompany(new ClearCompanyEvent(eId))
-            );
-            request.getEmployeeIds().forEach(eId ->
-                    kafkaProducerService.sendChangeCompany(new ChangeCompanyEvent(eId, id))
-            );
-        }
-
         CompanyEntity companyEntity = findCompanyOrThrow(id);
         companyEntity.setName(request.getName());
         companyEntity.setBudget(request.getBudget());
-        companyEntity.setEmployeeIds(request.getEmployeeIds());
-        log.info("Returning updated company: {}", companyEntity);
-        return companyRepository.saveAndFlush(companyEntity);
+        CompanyEntity updated = companyRepository.saveAndFlush(companyEntity);
+
+        // request idempotency check: only added and removed employees are written and announced
+        if (request.getEmployeeIds() != null) {
+            Set<UUID> current = new LinkedHashSet<>(updated.getEmployeeIds());
+            Set<UUID> requested = new LinkedHashSet<>(request.getEmployeeIds());
+
+            List<UUID> removed = current.stream().filter(eId -> !requested.contains(eId)).toList();
+            List<UUID> added = requested.stream().filter(eId -> !current.contains(eId)).toList();
+            int unchanged = requested.size() - added.size();
+
+            if (!removed.isEmpty()) {
+                companyRepository.removeEmployees(id, removed);
+                sendClearCompany(id, removed);
+            }
+            if (!added.isEmpty()) {
+                companyRepository.addEmployees(id, added);
+                sendChangeCompany(id, added);
+            }
+
+            meterRegistry.summary("company.update.employees", "diff", "added").record(added.size());
+            meterRegistry.summary("company.update.employees", "diff", "removed").record(removed.size());
+            meterRegistry.summary("company.update.employees", "diff", "unchanged").record(unchanged);
+            log.info("Updated company employees: added - {}; removed - {}; unchanged - {}.", added.size(), removed.size(), unchanged);
+
+            // rows are already written: the loaded collection must not be flushed over them
+            entityManager.detach(updated);
+            updated.setEmployeeIds(new ArrayList<>(requested));
+            companyEntityCache.evictEmployees(id);
+        }
+
+        // employee-service cached company and other instances' second-level cache
+        kafkaProducerService.sendEvictCompany(new EvictCompanyEvent(id));
+        log.info("Returning updated company: {}", Payloads.summary(updated));
+        return updated;
     }
 
     @Override
@@ -124,58 +170,231 @@ public class CompanyServiceImpl implements CompanyService {
         CompanyEntity companyEntity = findCompanyOrThrow(id);
         companyRepository.delete(companyEntity);
         companyRepository.flush();
-        log.info("Returning deleted company: {}", companyEntity);
+
+        // employee-service cached company and other instances' second-level cache
+        kafkaProducerService.sendEvictCompany(new EvictCompanyEvent(id));
+        log.info("Returning deleted company: {}", Payloads.summary(companyEntity));
         return companyEntity;
     }
 
+    // membership rows are written directly, the employeeIds collection is never loaded
+
     @Transactional
     public void addCompanyEmployee(UUID companyId, UUID employeeId) {
-        CompanyEntity companyEntity = findCompanyOrThrow(companyId);
-        List<UUID> ids = companyEntity.getEmployeeIds();
-        ids.add(employeeId);
-        companyEntity.setEmployeeIds(ids);
-        companyRepository.saveAndFlush(companyEntity);
+        addCompanyEmployees(companyId, List.of(employeeId));
+    }
+
+    @Transactional
+    public void addCompanyEmployees(UUID companyId, List<UUID> employeeIds) {
+        checkCompanyExists(companyId);
+        companyRepository.addEmployees(companyId, new LinkedHashSet<>(employeeIds));
+        evictCompanyEmployees(companyId);
     }
 
     @Transactional
     public void removeCompanyEmployee(UUID companyId, UUID employeeId) {
-        CompanyEntity companyEntity = findCompanyOrThrow(companyId);
-        List<UUID> ids = companyEntity.getEmployeeIds();
-        ids.remove(employeeId);
-        companyEntity.setEmployeeIds(ids);
-        companyRepository.saveAndFlush(companyEntity);
+        removeCompanyEmployees(companyId, List.of(employeeId));
+    }
+
+    @Transactional
+    public void removeCompanyEmployees(UUID companyId, List<UUID> employeeIds) {
+        checkCompanyExists(companyId);
+        companyRepository.removeEmployees(companyId, new LinkedHashSet<>(employeeIds));
+        evictCompanyEmployees(companyId);
     }
 
     @Override
     public Page<? extends Company> getAllCompanies(Pageable pageable, boolean extraInfo) {
 
         Page<CompanyEntity> page = companyRepository.findAll(pageable);
+        meterRegistry.summary("company.page.size", "pagination", "offset").record(page.getNumberOfElements());
 
         if (extraInfo) {
-            List<CompanyFullResponse> companyResponses = new ArrayList<>();
+            List<CompanyFullResponse> companyResponses = toFullResponses(page.getContent());
+            Page<CompanyFullResponse> response = new PageImpl<>(companyResponses, pageable, page.getTotalElements());
+            log.info("Returning all companies: {}", Payloads.summary(response));
+            return response;
+        }
+
+        Page<CompanyResponse> response = page.map(companyMapper::toResponse);
+        log.info("Returning all companies: {}", Payloads.summary(response));
+        return response;
+    }
 
-            for (CompanyEntity company : page) {
-                List<EmployeeResponse> employees = new ArrayList<>();
+    @Override
+    public CursorPage<? extends Company> getCompaniesAfter(String cursor, int size, boolean extraInfo, boolean withTotal) {
+
+        // one extra row tells whether a next page exists
+        int limit = Math.max(1, Math.min(size, MAX_KEYSET_PAGE_SIZE));
+        Pageable window = PageRequest.of(0, limit + 1);
+
+        List<CompanyEntity> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = companyRepository.findFirstKeysetPage(window);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = companyRepository.findKeysetPageAfter(after.getKey(), after.getId(), window);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            CompanyEntity last = rows.get(limit - 1);
+            nextCursor = new KeysetCursor(last.getName(), last.getId()).encode();
+        }
+
+        meterRegistry.summary("company.page.size", "pagination", "keyset").record(rows.size());
+        Long total = withTotal ? companyRepository.count() : null;
+
+        List<? extends Company> content = extraInfo
+                ? toFullResponses(rows)
+                : rows.stream().map(companyMapper::toResponse).toList();
 
-                for (UUID eId : company.getEmployeeIds()) {
+        CursorPage<? extends Company> response = new CursorPage<>(content, nextCursor, total);
+        log.info("Returning companies after cursor: {}", Payloads.summary(response));
+        return response;
+    }
 
-                    try {
-                        EmployeeResponse employee = employeeClient.getEmployee(eId);
-                        employees.add(employee);
-                    } catch (Exception ignored) {}
+    @Override
+    public long exportCompanies(OutputStream out, boolean withEmployees) throws IOException {
+
+        ObjectWriter writer = objectMapper.writerFor(CompanyResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+        long count = 0;
+
+        // one company in memory at a time: written, then detached;
+        // employee ids are merge-joined from a second cursor in the same company order
+        try (Stream<CompanyEntity> companies = companyRepository.streamAllOrderById();
+             Stream<Object[]> memberships = withEmployees ? companyRepository.streamAllEmployeeIdsOrderByCompanyId() : Stream.empty();
+             JsonGenerator generator = writer.createGenerator(out)) {
+
+            Iterator<CompanyEntity> companyIterator = companies.iterator();
+            Iterator<Object[]> membershipIterator = memberships.iterator();
+            Object[] membership = membershipIterator.hasNext() ? membershipIterator.next() : null;
+
+            while (companyIterator.hasNext()) {
+                CompanyEntity company = companyIterator.next();
+
+                List<UUID> employeeIds = null;
+                if (withEmployees) {
+                    employeeIds = new ArrayList<>();
+                    while (membership != null && company.getId().equals(membership[0])) {
+                        employeeIds.add((UUID) membership[1]);
+                        membership = membershipIterator.hasNext() ? membershipIterator.next() : null;
+                    }
                 }
 
-                companyResponses.add(companyMapper.toFullResponse(company, employees));
+                writer.writeValue(generator, companyMapper.toResponse(company, employeeIds));
+                entityManager.detach(company);
+                count++;
             }
+            if (count > 0) {
+                generator.writeRaw('\n');
+            }
+        }
 
-            Page<CompanyFullResponse> response = new PageImpl<>(companyResponses, pageable, page.getTotalElements());
-            log.info("Returning all companies: {}", response);
-            return response;
+        log.info("Exported companies: {}", count);
+        return count;
+    }
+
+    /**
+     * Utility method
+     * Maps companies with their employees, resolving employee ids of all companies in one pass
+     * @param companies companies
+     * @return full responses in companies order
+     */
+    private List<CompanyFullResponse> toFullResponses(List<CompanyEntity> companies) {
+
+        Set<UUID> employeeIds = new LinkedHashSet<>();
+        companies.forEach(company -> employeeIds.addAll(company.getEmployeeIds()));
+        Map<UUID, EmployeeResponse> employees = employeeReadModel.findEmployees(employeeIds);
+        meterRegistry.summary("company.extra-info.employees").record(employeeIds.size());
+
+        List<CompanyFullResponse> responses = new ArrayList<>(companies.size());
+        for (CompanyEntity company : companies) {
+            responses.add(companyMapper.toFullResponse(company, collectEmployees(company, employees)));
         }
+        return responses;
+    }
 
-        Page<CompanyResponse> response = page.map(companyMapper::toResponse);
-        log.info("Returning all companies: {}", response);
-        return response;
+    /**
+     * Utility method
+     * Picks company employees from resolved ones in company order
+     * @param company company
+     * @param employees resolved employees by id
+     * @return company employees
+     */
+    private List<EmployeeResponse> collectEmployees(CompanyEntity company, Map<UUID, EmployeeResponse> employees) {
+        List<EmployeeResponse> result = new ArrayList<>(company.getEmployeeIds().size());
+        for (UUID eId : company.getEmployeeIds()) {
+            EmployeeResponse employee = employees.get(eId);
+            if (employee != null) {
+                result.add(new EmployeeResponse(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getPhone(), company.getId()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Utility method
+     * Announces employees joining the company, one event per membership key and MAX_EVENT_EMPLOYEES
+     * @param id company
+     * @param employeeIds employees
+     */
+    private void sendChangeCompany(UUID id, List<UUID> employeeIds) {
+        for (Map.Entry<String, List<UUID>> chunk : membershipChunks(employeeIds)) {
+            kafkaProducerService.sendBatchChangeCompany(chunk.getKey(), new BatchChangeCompanyEvent(id, chunk.getValue()));
+        }
+    }
+
+    /**
+     * Utility method
+     * Announces employees leaving their company, one event per membership key and MAX_EVENT_EMPLOYEES
+     * @param id company
+     * @param employeeIds employees
+     */
+    private void sendClearCompany(UUID id, List<UUID> employeeIds) {
+        for (Map.Entry<String, List<UUID>> chunk : membershipChunks(employeeIds)) {
+            kafkaProducerService.sendBatchClearCompany(chunk.getKey(), new BatchClearCompanyEvent(id, chunk.getValue()));
+        }
+    }
+
+    /**
+     * Utility method
+     * @param employeeIds employees
+     * @return chunks of at most MAX_EVENT_EMPLOYEES employees sharing a membership key, by key
+     */
+    private List<Map.Entry<String, List<UUID>>> membershipChunks(List<UUID> employeeIds) {
+        Map<String, List<UUID>> byKey = new LinkedHashMap<>();
+        employeeIds.forEach(eId -> byKey.computeIfAbsent(KafkaProducerService.membershipKey(eId), key -> new ArrayList<>()).add(eId));
+
+        List<Map.Entry<String, List<UUID>>> chunks = new ArrayList<>();
+        byKey.forEach((key, ids) -> {
+            for (int from = 0; from < ids.size(); from += MAX_EVENT_EMPLOYEES) {
+                chunks.add(Map.entry(key, List.copyOf(ids.subList(from, Math.min(from + MAX_EVENT_EMPLOYEES, ids.size())))));
+            }
+        });
+        return chunks;
+    }
+
+    /**
+     * Utility method
+     * Evicts company employeeIds written with JDBC, here and on the other instances
+     * @param id company
+     */
+    private void evictCompanyEmployees(UUID id) {
+        companyEntityCache.evictEmployees(id);
+        kafkaProducerService.sendEvictCompanyEmployees(id);
+    }
+
+    /**
+     * Utility method
+     * Checks CompanyEntity existence, answered by the second-level cache when the company is cached
+     * @param id company
+     */
+    private void checkCompanyExists(UUID id) {
+        findCompanyOrThrow(id);
     }
 
     /**
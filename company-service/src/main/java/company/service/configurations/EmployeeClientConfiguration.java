@@ -0,0 +1,23 @@
+package company.service.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Configuration
+public class EmployeeClientConfiguration {
+
+    // ids per employee-service batch request (employee-service accepts max 1000)
+    @Value("${employee-client.batch-size:500}")
+    private int batchSize;
+
+    // concurrent employee-service requests per fan-out
+    @Value("${employee-client.max-in-flight:8}")
+    private int maxInFlight;
+
+    // per request timeout
+    @Value("${employee-client.timeout-ms:2000}")
+    private long timeoutMs;
+
+}
@@ -0,0 +1,27 @@
+package company.service.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Configuration
+public class EmployeeReadModelConfiguration {
+
+    // load employees from the employee-service export on startup, once: afterwards the projection resumes from events
+    @Value("${employee-read-model.bootstrap:true}")
+    private boolean bootstrap;
+
+    // load the export again although an earlier bootstrap completed, e.g. after events expired unconsumed
+    @Value("${employee-read-model.force-bootstrap:false}")
+    private boolean forceBootstrap;
+
+    // share of a company's employees missing locally above which they are paged by companyId instead of requested by id
+    @Value("${employee-read-model.company-lookup-ratio:0.5}")
+    private double companyLookupRatio;
+
+    // rows per bootstrap insert batch
+    @Value("${employee-read-model.batch-size:500}")
+    private int batchSize;
+
+}
@@ -0,0 +1,41 @@
+package company.service.configurations;
+
+import lombok.Getter;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+@Getter
+@Configuration
+public class KafkaConfiguration {
+
+    // records are keyed by employee (company for bulk events), partitions bound the listener concurrency
+    @Value("${kafka.topics.partitions:6}")
+    private int partitions;
+
+    @Value("${kafka.topics.replicas:1}")
+    private short replicas;
+
+    /**
+     * Topics consumed by this service, created on startup
+     * or grown to the configured partition count
+     */
+    @Bean
+    public KafkaAdmin.NewTopics consumedTopics() {
+        return new KafkaAdmin.NewTopics(
+                topic("company-add-employee"),
+                topic("company-add-employees"),
+                topic("company-employees-changed"),
+                topic("company-evict-company"),
+                topic("company-remove-employee")
+        );
+    }
+
+    private NewTopic topic(String name) {
+        return TopicBuilder.name(name).partitions(partitions).replicas(replicas).build();
+    }
+
+}
@@ -0,0 +1,23 @@
+package company.service.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Getter
+@Configuration
+@EnableScheduling
+public class OutboxConfiguration {
+
+    // messages per relay transaction
+    @Value("${outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    // max wait for broker acknowledgements of one batch
+    @Value("${outbox.relay.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    // relay poll delay (outbox.relay.linger-ms, default 50) is read by OutboxRelay
+
+}
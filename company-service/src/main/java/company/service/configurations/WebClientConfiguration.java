@@ -1,5 +1,7 @@
 package company.service.configurations;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,8 +12,11 @@ public class WebClientConfiguration {
 
     @Bean
     @LoadBalanced
-    public WebClient.Builder getWebClient() {
-        return WebClient.builder();
+    public WebClient.Builder getWebClient(ObjectProvider<WebClientCustomizer> customizers) {
+        // Boot customizers: shared codecs and the client observation, which propagates the trace headers
+        WebClient.Builder builder = WebClient.builder();
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        return builder;
     }
 
 }
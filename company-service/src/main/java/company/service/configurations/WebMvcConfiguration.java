@@ -0,0 +1,24 @@
+package company.service.configurations;
+
+import company.web.logging.RequestLogSamplingInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfiguration implements WebMvcConfigurer {
+
+    private final RequestLogSamplingInterceptor requestLogSamplingInterceptor;
+
+    @Autowired
+    public WebMvcConfiguration(RequestLogSamplingInterceptor requestLogSamplingInterceptor) {
+        this.requestLogSamplingInterceptor = requestLogSamplingInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestLogSamplingInterceptor);
+    }
+
+}
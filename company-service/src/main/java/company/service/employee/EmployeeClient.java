@@ -1,28 +1,61 @@
 package company.service.employee;
 
 import company.service.configurations.DiscoveryConfiguration;
+import company.service.configurations.EmployeeClientConfiguration;
+import company.web.dto.request.EmployeeBatchRequest;
+import company.web.dto.response.CursorPage;
+import company.web.dto.response.EmployeeBatchResponse;
 import company.web.dto.response.EmployeeResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeoutException;
 
+@Slf4j
 @Component
 public class EmployeeClient {
 
     private final String EMPLOYEE_SERVICE;
+    private final int BATCH_SIZE;
+    private final int MAX_IN_FLIGHT;
+    private final Duration TIMEOUT;
     private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
+
+    private static final ParameterizedTypeReference<CursorPage<EmployeeResponse>> EMPLOYEE_PAGE = new ParameterizedTypeReference<>() {};
 
     @Autowired
-    public EmployeeClient(DiscoveryConfiguration discoveryConfiguration, WebClient.Builder builder) {
+    public EmployeeClient(DiscoveryConfiguration discoveryConfiguration, EmployeeClientConfiguration clientConfiguration, WebClient.Builder builder, MeterRegistry meterRegistry) {
         this.EMPLOYEE_SERVICE = discoveryConfiguration.getEmployeeService();
+        this.BATCH_SIZE = clientConfiguration.getBatchSize();
+        this.MAX_IN_FLIGHT = clientConfiguration.getMaxInFlight();
+        this.TIMEOUT = Duration.ofMillis(clientConfiguration.getTimeoutMs());
         this.webClient = builder.build();
+        this.meterRegistry = meterRegistry;
     }
 
     public EmployeeResponse getEmployee(UUID id) {
-        return webClient.get()
+        return fetchEmployee(id).block();
+    }
+
+    public Mono<EmployeeResponse> fetchEmployee(UUID id) {
+        return timed("employee", webClient.get()
                 .uri(EMPLOYEE_SERVICE + "employees/" + id)
                 .retrieve()
                 .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(),
@@ -31,7 +64,128 @@ public class EmployeeClient {
                         )
                 )
                 .bodyToMono(EmployeeResponse.class)
+                .timeout(TIMEOUT));
+    }
+
+    /**
+     * Resolves employees with batch requests, blocking until all of them complete
+     * @param ids employees
+     * @return found employees and ids unknown to (or not answered by) employee-service
+     */
+    public EmployeeBatchResponse getEmployees(Collection<UUID> ids) {
+        return fetchEmployees(ids)
+                .reduce(new EmployeeBatchResponse(new ArrayList<>(), new ArrayList<>()), (result, batch) -> {
+                    result.getEmployees().addAll(batch.getEmployees());
+                    result.getMissingIds().addAll(batch.getMissingIds());
+                    return result;
+                })
                 .block();
     }
 
+    /**
+     * Fans out one batch request per BATCH_SIZE ids with at most MAX_IN_FLIGHT requests at a time.
+     * Batches are emitted in ids order; a failed or timed out batch reports its ids as missing.
+     * @param ids employees
+     * @return batch responses
+     */
+    public Flux<EmployeeBatchResponse> fetchEmployees(Collection<UUID> ids) {
+
+        List<UUID> unique = new ArrayList<>(new LinkedHashSet<>(ids));
+        List<List<UUID>> chunks = new ArrayList<>();
+        for (int from = 0; from < unique.size(); from += BATCH_SIZE) {
+            chunks.add(unique.subList(from, Math.min(from + BATCH_SIZE, unique.size())));
+        }
+        meterRegistry.summary("employee.client.fanout.ids").record(unique.size());
+        meterRegistry.summary("employee.client.fanout.requests").record(chunks.size());
+
+        return Flux.fromIterable(chunks)
+                .flatMapSequential(chunk -> fetchBatch(chunk)
+                        .onErrorResume(e -> {
+                            log.warn("Employee batch of {} ids failed: {}", chunk.size(), e.getMessage());
+                            return Mono.just(new EmployeeBatchResponse(List.of(), chunk));
+                        }), MAX_IN_FLIGHT);
+    }
+
+    /**
+     * Streams all employees from the employee-service NDJSON export, without a timeout
+     * @return employees in export order
+     */
+    public Flux<EmployeeResponse> fetchAllEmployees() {
+        return webClient.get()
+                .uri(EMPLOYEE_SERVICE + "employees/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .retrieve()
+                .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(),
+                        clientResponse -> clientResponse.bodyToMono(String.class).flatMap(
+                                errorBody -> Mono.error(new RuntimeException("CompanyService: " + errorBody))
+                        )
+                )
+                .bodyToFlux(EmployeeResponse.class);
+    }
+
+    /**
+     * Pages through employees whose companyId is the given company, BATCH_SIZE per request.
+     * Pages are requested one after another, following the returned cursors
+     * @param companyId company
+     * @return employees in id order
+     */
+    public Flux<EmployeeResponse> fetchCompanyEmployees(UUID companyId) {
+        return fetchCompanyPage(companyId, null)
+                .expand(page -> page.getNextCursor() == null ? Mono.empty() : fetchCompanyPage(companyId, page.getNextCursor()))
+                .flatMapIterable(CursorPage::getContent);
+    }
+
+    private Mono<CursorPage<EmployeeResponse>> fetchCompanyPage(UUID companyId, String cursor) {
+        return timed("company-page", webClient.get()
+                .uri(UriComponentsBuilder.fromUriString(EMPLOYEE_SERVICE + "employees")
+                        .queryParam("companyId", companyId)
+                        .queryParam("size", BATCH_SIZE)
+                        .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                        .build()
+                        .toUri())
+                .retrieve()
+                .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(),
+                        clientResponse -> clientResponse.bodyToMono(String.class).flatMap(
+                                errorBody -> Mono.error(new RuntimeException("CompanyService: " + errorBody))
+                        )
+                )
+                .bodyToMono(EMPLOYEE_PAGE)
+                .timeout(TIMEOUT));
+    }
+
+    private Mono<EmployeeBatchResponse> fetchBatch(List<UUID> ids) {
+        return timed("batch", webClient.post()
+                .uri(EMPLOYEE_SERVICE + "employees/batch")
+                .bodyValue(new EmployeeBatchRequest(ids))
+                .retrieve()
+                .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(),
+                        clientResponse -> clientResponse.bodyToMono(String.class).flatMap(
+                                errorBody -> Mono.error(new RuntimeException("CompanyService: " + errorBody))
+                        )
+                )
+                .bodyToMono(EmployeeBatchResponse.class)
+                .timeout(TIMEOUT));
+    }
+
+    /**
+     * Utility method
+     * Times one employee-service request from subscription to its outcome: success, error, timeout or cancelled
+     * @param request request tag
+     * @param call request
+     * @return timed request
+     */
+    private <T> Mono<T> timed(String request, Mono<T> call) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return call
+                    .doOnSuccess(result -> sample.stop(requestTimer(request, "success")))
+                    .doOnError(e -> sample.stop(requestTimer(request, e instanceof TimeoutException ? "timeout" : "error")))
+                    .doOnCancel(() -> sample.stop(requestTimer(request, "cancelled")));
+        });
+    }
+
+    private Timer requestTimer(String request, String outcome) {
+        return meterRegistry.timer("employee.client.requests", "request", request, "outcome", outcome);
+    }
+
 }
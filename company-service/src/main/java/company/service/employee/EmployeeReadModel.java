@@ -0,0 +1,197 @@
+package company.service.employee;
+
+import company.repository.EmployeeSummaryRepository;
+import company.repository.ReadModelStateRepository;
+import company.repository.entities.EmployeeSummaryEntity;
+import company.repository.entities.ReadModelStateEntity;
+import company.service.configurations.EmployeeReadModelConfiguration;
+import company.service.messages.employee.EmployeesChangedEvent;
+import company.web.dto.response.EmployeeBatchResponse;
+import company.web.dto.response.EmployeeResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Local projection of employee summaries, fed by company-employees-changed events
+ * and bootstrapped once from the employee-service export.
+ */
+@Slf4j
+@Component
+public class EmployeeReadModel {
+
+    private static final int MAX_QUERY_IDS = 1000;
+    private static final String STATE = "employee-summary";
+    private static final long SNAPSHOT_VERSION = -1;
+
+    private final EmployeeSummaryRepository employeeSummaryRepository;
+    private final ReadModelStateRepository readModelStateRepository;
+    private final EmployeeClient employeeClient;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean BOOTSTRAP;
+    private final boolean FORCE_BOOTSTRAP;
+    private final int BATCH_SIZE;
+    private final double COMPANY_LOOKUP_RATIO;
+
+    private volatile boolean ready;
+
+    @Autowired
+    public EmployeeReadModel(EmployeeSummaryRepository employeeSummaryRepository, ReadModelStateRepository readModelStateRepository, EmployeeClient employeeClient, MeterRegistry meterRegistry, EmployeeReadModelConfiguration readModelConfiguration) {
+        this.employeeSummaryRepository = employeeSummaryRepository;
+        this.readModelStateRepository = readModelStateRepository;
+        this.employeeClient = employeeClient;
+        this.meterRegistry = meterRegistry;
+        this.BOOTSTRAP = readModelConfiguration.isBootstrap();
+        this.FORCE_BOOTSTRAP = readModelConfiguration.isForceBootstrap();
+        this.BATCH_SIZE = readModelConfiguration.getBatchSize();
+        this.COMPANY_LOOKUP_RATIO = readModelConfiguration.getCompanyLookupRatio();
+        this.ready = !BOOTSTRAP;
+    }
+
+    /**
+     * Applies employee changes, changes of employee versions not above the stored ones are ignored
+     * @param event changed employees
+     */
+    public void apply(EmployeesChangedEvent event) {
+        List<EmployeeSummaryEntity> summaries = event.getEmployees().stream()
+                .map(employee -> new EmployeeSummaryEntity(employee.getId(), employee.getFirstName(), employee.getLastName(),
+                        employee.getPhone(), employee.isDeleted(), employee.getVersion(), event.getChangedAt()))
+                .toList();
+        employeeSummaryRepository.upsertAll(summaries);
+    }
+
+    /**
+     * Resolves employees from the local projection
+     * @param ids employees
+     * @return employees by id, without companyId; unknown and deleted employees are skipped
+     */
+    public Map<UUID, EmployeeResponse> findEmployees(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        List<UUID> unique = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<UUID, EmployeeResponse> employees = findLocal(unique);
+
+        // projection still loading: the rest may exist in employee-service
+        if (!ready && employees.size() < unique.size()) {
+            requestMissing(unique, employees);
+        }
+        return employees;
+    }
+
+    /**
+     * Resolves employees of one company from the local projection.
+     * While it is loading, the missing ones are requested by id; only when most of the company is missing
+     * (above employee-read-model.company-lookup-ratio) is the whole roster paged from employee-service
+     * by companyId, one indexed query per page, and ids employee-service does not list under
+     * the company yet (assignment events still in flight) are then requested by id
+     * @param companyId company
+     * @param ids company employees
+     * @return employees by id, without companyId; unknown and deleted employees are skipped
+     */
+    public Map<UUID, EmployeeResponse> findCompanyEmployees(UUID companyId, Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        List<UUID> unique = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<UUID, EmployeeResponse> employees = findLocal(unique);
+
+        if (!ready && unique.size() - employees.size() > unique.size() * COMPANY_LOOKUP_RATIO) {
+            Set<UUID> missing = unique.stream().filter(id -> !employees.containsKey(id)).collect(Collectors.toSet());
+            meterRegistry.counter("employee.read-model.fallback", "lookup", "company").increment(missing.size());
+            try {
+                employeeClient.fetchCompanyEmployees(companyId)
+                        .filter(employee -> missing.contains(employee.getId()))
+                        .toIterable()
+                        .forEach(employee -> employees.put(employee.getId(), employee));
+            } catch (Exception e) {
+                log.warn("Company employees are unavailable: {}", e.getMessage());
+            }
+        }
+        if (!ready && employees.size() < unique.size()) {
+            requestMissing(unique, employees);
+        }
+        return employees;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (!BOOTSTRAP) {
+            return;
+        }
+
+        // loaded before by this or another instance, missed events are consumed from the committed offsets
+        if (!FORCE_BOOTSTRAP && readModelStateRepository.existsById(STATE)) {
+            ready = true;
+            log.info("Employee read model already bootstrapped, resuming from events.");
+            return;
+        }
+
+        // snapshot rows never overwrite rows already written by events, and any event overwrites them
+        Instant snapshot = Instant.now();
+        employeeClient.fetchAllEmployees()
+                .map(employee -> new EmployeeSummaryEntity(employee.getId(), employee.getFirstName(), employee.getLastName(),
+                        employee.getPhone(), false, SNAPSHOT_VERSION, snapshot))
+                .buffer(BATCH_SIZE)
+                .concatMap(batch -> Mono.fromRunnable(() -> employeeSummaryRepository.insertMissing(batch))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .thenReturn(batch.size()))
+                .reduce(0L, Long::sum)
+                .retryWhen(Retry.backoff(10, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe(
+                        count -> {
+                            readModelStateRepository.save(new ReadModelStateEntity(STATE, Instant.now()));
+                            ready = true;
+                            log.info("Employee read model bootstrapped: employees - {}.", count);
+                        },
+                        e -> log.warn("Employee read model bootstrap failed, falling back to employee-service: {}", e.getMessage())
+                );
+    }
+
+    private Map<UUID, EmployeeResponse> findLocal(List<UUID> unique) {
+        Map<UUID, EmployeeResponse> employees = new HashMap<>();
+        for (int from = 0; from < unique.size(); from += MAX_QUERY_IDS) {
+            employeeSummaryRepository.findAllByIdInAndDeletedFalse(unique.subList(from, Math.min(from + MAX_QUERY_IDS, unique.size())))
+                    .forEach(summary -> employees.put(summary.getId(),
+                            new EmployeeResponse(summary.getId(), summary.getFirstName(), summary.getLastName(), summary.getPhone(), null)));
+        }
+        return employees;
+    }
+
+    private void requestMissing(List<UUID> unique, Map<UUID, EmployeeResponse> employees) {
+        List<UUID> missing = unique.stream().filter(id -> !employees.containsKey(id)).toList();
+        meterRegistry.counter("employee.read-model.fallback", "lookup", "ids").increment(missing.size());
+        try {
+            EmployeeBatchResponse batch = employeeClient.getEmployees(missing);
+            batch.getEmployees().forEach(employee -> employees.put(employee.getId(), employee));
+        } catch (Exception e) {
+            log.warn("Employees are unavailable: {}", e.getMessage());
+        }
+    }
+
+}
@@ -1,8 +1,15 @@
 package company.service.kafka;
 
+import company.service.company.CompanyEntityCache;
 import company.service.company.implementations.CompanyServiceImpl;
+import company.service.employee.EmployeeReadModel;
+import company.service.messages.company.EvictCompanyEvent;
 import company.service.messages.employee.AddEmployeeEvent;
+import company.service.messages.employee.AddEmployeesEvent;
+import company.service.messages.employee.EmployeesChangedEvent;
 import company.service.messages.employee.RemoveEmployeeEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -12,23 +19,71 @@ import org.springframework.stereotype.Service;
 @Service
 public class KafkaConsumerService {
     private final CompanyServiceImpl companyServiceImpl;
+    private final EmployeeReadModel employeeReadModel;
+    private final CompanyEntityCache companyEntityCache;
+    private final MeterRegistry meterRegistry;
 
     @Autowired
-    public KafkaConsumerService(CompanyServiceImpl companyServiceImpl) {
+    public KafkaConsumerService(CompanyServiceImpl companyServiceImpl, EmployeeReadModel employeeReadModel, CompanyEntityCache companyEntityCache, MeterRegistry meterRegistry) {
         this.companyServiceImpl = companyServiceImpl;
+        this.employeeReadModel = employeeReadModel;
+        this.companyEntityCache = companyEntityCache;
+        this.meterRegistry = meterRegistry;
     }
 
-    @KafkaListener(topics = "company-add-employee", groupId = "employee-service")
+    @KafkaListener(topics = "company-add-employee", groupId = "company-service")
     public void handleAdd(AddEmployeeEvent event) {
-        companyServiceImpl.addCompanyEmployee(event.getCompanyId(), event.getEmployeeId());
+        timed("company-add-employee", () -> companyServiceImpl.addCompanyEmployee(event.getCompanyId(), event.getEmployeeId()));
         log.info("Consumed company-add-employee event with parameters: companyId - {}; employeeId - {}.", event.getCompanyId(), event.getEmployeeId());
     }
 
-    @KafkaListener(topics = "company-remove-employee", groupId = "employee-service")
+    @KafkaListener(topics = "company-add-employees", groupId = "company-service")
+    public void handleAddAll(AddEmployeesEvent event) {
+        timed("company-add-employees", () -> companyServiceImpl.addCompanyEmployees(event.getCompanyId(), event.getEmployeeIds()));
+        log.info("Consumed company-add-employees event with parameters: companyId - {}; employees - {}.", event.getCompanyId(), event.getEmployeeIds().size());
+    }
+
+    @KafkaListener(topics = "company-remove-employee", groupId = "company-service")
     public void handleRemove(RemoveEmployeeEvent event) {
-        companyServiceImpl.removeCompanyEmployee(event.getCompanyId(), event.getEmployeeId());
+        timed("company-remove-employee", () -> companyServiceImpl.removeCompanyEmployee(event.getCompanyId(), event.getEmployeeId()));
         log.info("Consumed company-remove-employee event with parameters: companyId - {}.", event.getCompanyId());
     }
 
-}
+    @KafkaListener(topics = "company-employees-changed", groupId = "company-service")
+    public void handleEmployeesChanged(EmployeesChangedEvent event) {
+        timed("company-employees-changed", () -> employeeReadModel.apply(event));
+        log.info("Consumed company-employees-changed event with parameters: employees - {}.", event.getEmployees().size());
+    }
 
+    // every instance evicts its own second-level cache: unique group, no backlog replay on startup
+    @KafkaListener(topics = "company-evict-company", groupId = "company-service-cache-${random.uuid}",
+            properties = "auto.offset.reset=latest")
+    public void handleEvictCompany(EvictCompanyEvent event) {
+        timed("company-evict-company", () -> {
+            if (event.isEmployeesOnly()) {
+                companyEntityCache.evictEmployees(event.getCompanyId());
+            } else {
+                companyEntityCache.evict(event.getCompanyId());
+            }
+        });
+        log.info("Consumed company-evict-company event with parameters: companyId - {}; employeesOnly - {}.", event.getCompanyId(), event.isEmployeesOnly());
+    }
+
+    /**
+     * Utility method
+     * Processing time of one listener invocation, transaction commit included, tagged by topic and outcome
+     * @param topic consumed topic
+     * @param handler listener body
+     */
+    private void timed(String topic, Runnable handler) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            handler.run();
+            outcome = "success";
+        } finally {
+            sample.stop(meterRegistry.timer("company.events.duration", "topic", topic, "outcome", outcome));
+        }
+    }
+
+}
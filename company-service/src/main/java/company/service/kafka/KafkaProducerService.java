@@ -1,27 +1,82 @@
 package company.service.kafka;
 
-import company.service.messages.company.ChangeCompanyEvent;
-import company.service.messages.company.ClearCompanyEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import company.repository.OutboxRepository;
+import company.repository.entities.OutboxEntity;
+import company.service.messages.company.BatchChangeCompanyEvent;
+import company.service.messages.company.BatchClearCompanyEvent;
+import company.service.messages.company.EvictCompanyEvent;
+import company.service.outbox.OutboxTraceContext;
+import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Events are written to the outbox in the caller's transaction
+ * and published by OutboxRelay once it commits.
+ */
 @Service
+@Transactional(Transactional.TxType.MANDATORY)
 public class KafkaProducerService {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    // employee buckets, well above the partition count so keys still spread over all partitions
+    private static final int MEMBERSHIP_KEYS = 64;
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final OutboxTraceContext outboxTraceContext;
 
     @Autowired
-    public KafkaProducerService(KafkaTemplate<String, Object> kafkaTemplate) {
-        this.kafkaTemplate = kafkaTemplate;
+    public KafkaProducerService(OutboxRepository outboxRepository, ObjectMapper objectMapper, OutboxTraceContext outboxTraceContext) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.outboxTraceContext = outboxTraceContext;
+    }
+
+    // membership events are keyed by employee bucket: successive moves of one employee stay on one partition
+    public void sendBatchChangeCompany(String key, BatchChangeCompanyEvent event) {
+        publish("employee-batch-change-company", key, event);
+    }
+
+    public void sendBatchClearCompany(String key, BatchClearCompanyEvent event) {
+        publish("employee-batch-clear-company", key, event);
+    }
+
+    /**
+     * Utility method
+     * @param employeeId employee
+     * @return record key of the employee's membership events, one of MEMBERSHIP_KEYS
+     */
+    public static String membershipKey(UUID employeeId) {
+        return "employees-" + Math.floorMod(employeeId.hashCode(), MEMBERSHIP_KEYS);
+    }
+
+    // employee-service company cache and second-level cache of the other company-service instances
+    public void sendEvictCompany(EvictCompanyEvent event) {
+        publish("employee-evict-company", event.getCompanyId().toString(), event);
+        sendEvictCompanyEntity(event);
+    }
+
+    public void sendEvictCompanyEntity(EvictCompanyEvent event) {
+        publish("company-evict-company", event.getCompanyId().toString(), event);
     }
 
-    public void sendChangeCompany(ChangeCompanyEvent event) {
-        kafkaTemplate.send("employee-change-company", event);
+    // other company-service instances' cached employeeIds, after membership rows were written with JDBC
+    public void sendEvictCompanyEmployees(UUID companyId) {
+        sendEvictCompanyEntity(new EvictCompanyEvent(companyId, true));
     }
 
-    public void sendClearCompany(ClearCompanyEvent event) {
-        kafkaTemplate.send("employee-clear-company", event);
+    private void publish(String topic, String key, Object event) {
+        try {
+            outboxRepository.save(new OutboxEntity(null, topic, key, event.getClass().getName(),
+                    objectMapper.writeValueAsString(event), Instant.now(), outboxTraceContext.capture()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Event " + event.getClass().getSimpleName() + " cannot be serialized", e);
+        }
     }
 
 }
@@ -0,0 +1,17 @@
+package company.service.messages.company;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchClearCompanyEvent {
+    // company the employees left, only employees still assigned to it are cleared
+    private UUID companyId;
+    private List<UUID> employeeIds;
+}
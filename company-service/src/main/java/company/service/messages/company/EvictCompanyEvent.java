@@ -0,0 +1,20 @@
+package company.service.messages.company;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvictCompanyEvent {
+    private UUID companyId;
+    // membership change only: the employeeIds collection is evicted, cached queries stay
+    private boolean employeesOnly;
+
+    public EvictCompanyEvent(UUID companyId) {
+        this(companyId, false);
+    }
+}
@@ -0,0 +1,16 @@
+package company.service.messages.employee;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AddEmployeesEvent {
+    private UUID companyId;
+    private List<UUID> employeeIds;
+}
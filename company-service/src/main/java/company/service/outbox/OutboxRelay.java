@@ -0,0 +1,168 @@
+package company.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import company.repository.OutboxDeadLetterRepository;
+import company.repository.OutboxRepository;
+import company.repository.entities.OutboxDeadLetterEntity;
+import company.repository.entities.OutboxEntity;
+import company.service.configurations.OutboxConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes outbox messages in batches under a Postgres advisory lock, so one instance relays at a time.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    // advisory lock key of the relaying instance
+    private static final long RELAY_LOCK = "company-service.outbox-relay".hashCode();
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxDeadLetterRepository outboxDeadLetterRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final OutboxTraceContext outboxTraceContext;
+
+    private final int BATCH_SIZE;
+    private final long SEND_TIMEOUT_MS;
+
+    private final AtomicLong pending;
+    private final AtomicLong lagMs;
+
+    @Autowired
+    public OutboxRelay(OutboxRepository outboxRepository, OutboxDeadLetterRepository outboxDeadLetterRepository, KafkaTemplate<String, Object> kafkaTemplate, TransactionTemplate transactionTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry, OutboxTraceContext outboxTraceContext, OutboxConfiguration outboxConfiguration) {
+        this.outboxRepository = outboxRepository;
+        this.outboxDeadLetterRepository = outboxDeadLetterRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.outboxTraceContext = outboxTraceContext;
+        this.BATCH_SIZE = outboxConfiguration.getBatchSize();
+        this.SEND_TIMEOUT_MS = outboxConfiguration.getSendTimeoutMs();
+        this.pending = meterRegistry.gauge("outbox.pending", new AtomicLong());
+        this.lagMs = meterRegistry.gauge("outbox.lag.ms", new AtomicLong());
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.linger-ms:50}")
+    public void relay() {
+        try {
+            // full batches mean backlog: keep draining without the linger delay
+            Integer published;
+            do {
+                published = transactionTemplate.execute(status -> publishBatch());
+            } while (published != null && published == BATCH_SIZE);
+        } catch (Exception e) {
+            meterRegistry.counter("outbox.relay.failures").increment();
+            log.warn("Outbox relay batch failed, will be retried: {}", e.getMessage());
+        }
+    }
+
+    private int publishBatch() {
+
+        // another instance is relaying
+        if (!outboxRepository.tryLockRelay(RELAY_LOCK)) {
+            return 0;
+        }
+
+        List<OutboxEntity> batch = outboxRepository.lockNextBatch(BATCH_SIZE);
+        updateLag(batch);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        long start = System.nanoTime();
+        List<CompletableFuture<SendResult<String, Object>>> sends = new ArrayList<>(batch.size());
+        List<Long> ids = new ArrayList<>(batch.size());
+        for (OutboxEntity message : batch) {
+            ids.add(message.getId());
+
+            // a message that can never be published must not hold back the ones behind it
+            Object event;
+            try {
+                event = toEvent(message);
+            } catch (Exception e) {
+                deadLetter(message, e);
+                continue;
+            }
+            try {
+                sends.add(outboxTraceContext.resume(message.getTraceContext(), message.getTopic(),
+                        () -> kafkaTemplate.send(message.getTopic(), message.getMessageKey(), event)));
+            } catch (SerializationException e) {
+                deadLetter(message, e);
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).get(SEND_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException("Outbox batch of " + batch.size() + " messages was not acknowledged", e);
+        }
+
+        outboxRepository.deleteAllByIdIn(ids);
+
+        meterRegistry.timer("outbox.relay.batch.duration").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        meterRegistry.summary("outbox.relay.batch.size").record(batch.size());
+        meterRegistry.counter("outbox.published").increment(sends.size());
+        return batch.size();
+    }
+
+    private Object toEvent(OutboxEntity message) throws IOException, ClassNotFoundException {
+        return objectMapper.readValue(message.getPayload(), Class.forName(message.getMessageType()));
+    }
+
+    /**
+     * Utility method
+     * Moves a message that cannot be read or serialized to outbox_dead_letter_table,
+     * in the batch transaction: it is deleted from the outbox together with the published ones
+     * @param message unpublishable message
+     * @param e cause
+     */
+    private void deadLetter(OutboxEntity message, Exception e) {
+        outboxDeadLetterRepository.save(new OutboxDeadLetterEntity(message.getId(), message.getTopic(), message.getMessageKey(),
+                message.getMessageType(), message.getPayload(), message.getCreatedAt(), Instant.now(), e.toString()));
+        meterRegistry.counter("outbox.dead.letters", "topic", message.getTopic()).increment();
+        log.warn("Outbox message {} of type {} to {} cannot be published, moved to the dead letter table: {}",
+                message.getId(), message.getMessageType(), message.getTopic(), e.getMessage());
+    }
+
+    /**
+     * Utility method
+     * Backlog gauges from the batch just locked, without scanning outbox_table:
+     * the first row is the oldest pending message, and a full batch adds the id range
+     * up to the newest message (an upper bound, ids of rolled back writes are never used)
+     * @param batch locked batch, oldest first
+     */
+    private void updateLag(List<OutboxEntity> batch) {
+        if (batch.isEmpty()) {
+            pending.set(0);
+            lagMs.set(0);
+            return;
+        }
+        OutboxEntity oldest = batch.getFirst();
+        Long newestId = batch.size() < BATCH_SIZE ? null : outboxRepository.findNewestId();
+        pending.set(newestId == null ? batch.size() : newestId - oldest.getId() + 1);
+        lagMs.set(Duration.between(oldest.getCreatedAt(), Instant.now()).toMillis());
+    }
+
+}
@@ -0,0 +1,90 @@
+package company.service.outbox;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Stores the writing request's trace with an outbox message and resumes it when OutboxRelay sends it.
+ */
+@Component
+public class OutboxTraceContext {
+
+    private static final TypeReference<Map<String, String>> HEADERS = new TypeReference<>() {};
+
+    private final Tracer tracer;
+    private final Propagator propagator;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public OutboxTraceContext(Tracer tracer, Propagator propagator, ObjectMapper objectMapper) {
+        this.tracer = tracer;
+        this.propagator = propagator;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return propagation headers of the current span as JSON, null outside of a trace
+     */
+    public String capture() {
+        Span span = tracer.currentSpan();
+        if (span == null) {
+            return null;
+        }
+        Map<String, String> headers = new LinkedHashMap<>();
+        propagator.inject(span.context(), headers, Map::put);
+        try {
+            return objectMapper.writeValueAsString(headers);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Runs a send inside an "outbox relay" span continuing the captured trace, so the Kafka send
+     * observation and the record headers belong to the original request. The span ends with the send.
+     * @param traceContext captured context, may be null
+     * @param topic message topic
+     * @param send send
+     * @return send result
+     */
+    public <T> CompletableFuture<T> resume(String traceContext, String topic, Supplier<CompletableFuture<T>> send) {
+        if (traceContext == null) {
+            return send.get();
+        }
+
+        Map<String, String> headers;
+        try {
+            headers = objectMapper.readValue(traceContext, HEADERS);
+        } catch (Exception e) {
+            return send.get();
+        }
+
+        Span span = propagator.extract(headers, Map::get)
+                .name("outbox relay")
+                .tag("messaging.destination.name", topic)
+                .start();
+        try (Tracer.SpanInScope scope = tracer.withSpan(span)) {
+            return send.get().whenComplete((result, e) -> {
+                if (e != null) {
+                    span.error(e);
+                }
+                span.end();
+            });
+        } catch (RuntimeException e) {
+            span.error(e);
+            span.end();
+            throw e;
+        }
+    }
+
+}
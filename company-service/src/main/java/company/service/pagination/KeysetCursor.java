@@ -0,0 +1,37 @@
+package company.service.pagination;
+
+import company.web.controllers.exceptions.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position of the last returned row: sort key plus id tie-breaker.
+ * Clients get it as an opaque url-safe token.
+ */
+@Data
+@AllArgsConstructor
+public class KeysetCursor {
+
+    private String key;
+    private UUID id;
+
+    public String encode() {
+        String raw = id + ":" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new KeysetCursor(raw.substring(separator + 1), UUID.fromString(raw.substring(0, separator)));
+        } catch (IllegalArgumentException | StringIndexOutOfBoundsException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+}
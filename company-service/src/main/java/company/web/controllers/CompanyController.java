@@ -2,15 +2,20 @@ package company.web.controllers;
 
 import company.repository.entities.CompanyEntity;
 import company.service.company.contracts.CompanyService;
+import company.service.logging.Payloads;
 import company.web.dto.request.CompanyRequest;
+import company.web.dto.response.CursorPage;
 import company.web.dto.response.contracts.Company;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.UUID;
 
 @Slf4j
@@ -27,7 +32,7 @@ public class CompanyController {
 
     @PostMapping
     private CompanyEntity createCompany(@Valid @RequestBody CompanyRequest request) {
-        log.info("Received request to create company: {}", request);
+        log.info("Received request to create company: {}", Payloads.summary(request));
         return companyService.createCompany(request);
     }
 
@@ -39,7 +44,7 @@ public class CompanyController {
 
     @PutMapping("/{id}")
     private CompanyEntity updateCompany(@PathVariable UUID id, @Valid @RequestBody CompanyRequest request) {
-        log.info("Received request to update company: {}, {}", id, request);
+        log.info("Received request to update company: {}, {}", id, Payloads.summary(request));
         return companyService.updateCompany(id, request);
     }
 
@@ -55,4 +60,20 @@ public class CompanyController {
         return companyService.getAllCompanies(pageable, extraInfo);
     }
 
+    @GetMapping("/scroll")
+    public CursorPage<? extends Company> scrollCompanies(@RequestParam(required = false) String cursor,
+                                                         @RequestParam(defaultValue = "20") int size,
+                                                         @RequestParam(defaultValue = "false") boolean extraInfo,
+                                                         @RequestParam(defaultValue = "false") boolean withTotal) {
+        log.info("Received request to scroll companies: {}, {}, {}, {}", cursor, size, extraInfo, withTotal);
+        return companyService.getCompaniesAfter(cursor, size, extraInfo, withTotal);
+    }
+
+    @GetMapping("/export")
+    public void exportCompanies(HttpServletResponse response, @RequestParam(defaultValue = "false") boolean withEmployees) throws IOException {
+        log.info("Received request to export companies: {}", withEmployees);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        companyService.exportCompanies(response.getOutputStream(), withEmployees);
+    }
+
 }
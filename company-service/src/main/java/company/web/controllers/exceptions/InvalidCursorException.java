@@ -0,0 +1,7 @@
+package company.web.controllers.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super("Cursor \"" + cursor + "\" is invalid");
+    }
+}
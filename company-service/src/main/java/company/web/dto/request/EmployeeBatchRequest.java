@@ -1,14 +1,15 @@
-package company.service.messages.company;
+package company.web.dto.request;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
 import java.util.UUID;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class ClearCompanyEvent {
-    private UUID employeeId;
-}
\ No newline at end of file
+public class EmployeeBatchRequest {
+    private List<UUID> ids;
+}
@@ -0,0 +1,16 @@
+package company.web.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBatchResponse {
+    private List<EmployeeResponse> employees;
+    private List<UUID> missingIds;
+}
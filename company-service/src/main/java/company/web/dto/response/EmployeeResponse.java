@@ -2,12 +2,15 @@ package company.web.dto.response;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.UUID;
 
 @Data
+@NoArgsConstructor
 @AllArgsConstructor
 public class EmployeeResponse {
+    private UUID id;
     private String firstName;
     private String lastName;
     private String phone;
@@ -7,6 +7,8 @@ import company.web.dto.response.CompanyResponse;
 import company.web.dto.response.EmployeeResponse;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,7 +20,7 @@ public class CompanyMapper {
             id,
             request.getName(),
             request.getBudget(),
-            request.getEmployeeIds()
+            new ArrayList<>(new LinkedHashSet<>(request.getEmployeeIds()))
         );
     }
 
@@ -31,6 +33,15 @@ public class CompanyMapper {
         );
     }
 
+    public CompanyResponse toResponse(CompanyEntity entity, List<UUID> employeeIds) {
+        return new CompanyResponse(
+            entity.getId(),
+            entity.getName(),
+            entity.getBudget(),
+            employeeIds
+        );
+    }
+
     public CompanyFullResponse toFullResponse(CompanyEntity entity, List<EmployeeResponse> employeeResponses) {
         return new CompanyFullResponse(
                 entity.getId(),
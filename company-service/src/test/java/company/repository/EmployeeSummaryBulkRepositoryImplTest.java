@@ -0,0 +1,110 @@
+package company.repository;
+
+import company.repository.entities.EmployeeSummaryEntity;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmployeeSummaryBulkRepositoryImplTest {
+
+    private static EmbeddedPostgres postgres;
+    private static JdbcTemplate jdbcTemplate;
+
+    private final UUID id = UUID.randomUUID();
+    private EmployeeSummaryBulkRepositoryImpl repository;
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+        // as created by ddl-auto from EmployeeSummaryEntity
+        jdbcTemplate.execute("create table employee_summary_table (id uuid primary key, first_name varchar(255), last_name varchar(255)," +
+                " phone_number varchar(255), deleted boolean not null, version bigint default -1 not null, changed_at timestamp(6) with time zone not null)");
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("truncate employee_summary_table");
+        repository = new EmployeeSummaryBulkRepositoryImpl(jdbcTemplate);
+    }
+
+    @Test
+    void lowerOrEqualVersionsDoNotOverwriteANewerRow() {
+        repository.upsertAll(List.of(summary("Smith", false, 3)));
+
+        repository.upsertAll(List.of(summary("Jones", false, 2)));
+        repository.upsertAll(List.of(summary("Brown", false, 3)));
+
+        assertEquals("Smith", row().get("last_name"));
+        assertEquals(3L, row().get("version"));
+
+        repository.upsertAll(List.of(summary("Jones", false, 4)));
+        assertEquals("Jones", row().get("last_name"));
+    }
+
+    @Test
+    void snapshotRowIsReplacedByTheFirstEvent() {
+        repository.insertMissing(List.of(summary("Snapshot", false, -1)));
+
+        repository.upsertAll(List.of(summary("Smith", false, 0)));
+
+        assertEquals("Smith", row().get("last_name"));
+        assertEquals(0L, row().get("version"));
+    }
+
+    @Test
+    void snapshotRowNeverOverwritesAnEventRow() {
+        repository.upsertAll(List.of(summary("Smith", false, 0)));
+
+        repository.insertMissing(List.of(summary("Snapshot", false, -1)));
+
+        assertEquals("Smith", row().get("last_name"));
+    }
+
+    @Test
+    void deletionWinsOverALateUpdate() {
+        repository.upsertAll(List.of(summary("Smith", false, 1)));
+        // updated to version 2, then deleted: the tombstone (version 3) arrives before the update
+        repository.upsertAll(List.of(summary(null, true, 3)));
+        repository.upsertAll(List.of(summary("Jones", false, 2)));
+
+        assertTrue((Boolean) row().get("deleted"));
+        assertEquals(3L, row().get("version"));
+    }
+
+    @Test
+    void deletionIsAppliedOverTheLastChange() {
+        repository.upsertAll(List.of(summary("Smith", false, 1)));
+
+        repository.upsertAll(List.of(summary(null, true, 2)));
+
+        assertTrue((Boolean) row().get("deleted"));
+        assertEquals(2L, row().get("version"));
+    }
+
+    private EmployeeSummaryEntity summary(String lastName, boolean deleted, long version) {
+        return new EmployeeSummaryEntity(id, lastName == null ? null : "Jane", lastName, null, deleted, version, Instant.now());
+    }
+
+    private Map<String, Object> row() {
+        return jdbcTemplate.queryForMap("select * from employee_summary_table where id = ?", id);
+    }
+
+}
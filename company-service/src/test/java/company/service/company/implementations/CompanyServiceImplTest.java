@@ -0,0 +1,137 @@
+package company.service.company.implementations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import company.repository.CompanyRepository;
+import company.repository.entities.CompanyEntity;
+import company.service.company.CompanyEntityCache;
+import company.service.employee.EmployeeReadModel;
+import company.service.kafka.KafkaProducerService;
+import company.service.messages.company.BatchChangeCompanyEvent;
+import company.service.messages.company.BatchClearCompanyEvent;
+import company.service.messages.company.EvictCompanyEvent;
+import company.service.pagination.KeysetCursor;
+import company.web.dto.request.CompanyRequest;
+import company.web.dto.response.CursorPage;
+import company.web.dto.response.mappers.CompanyMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CompanyServiceImplTest {
+
+    private final UUID companyId = UUID.randomUUID();
+    private final UUID kept = UUID.randomUUID();
+    private final UUID left = UUID.randomUUID();
+    private final UUID joined = UUID.randomUUID();
+
+    private final CompanyRepository companyRepository = mock(CompanyRepository.class);
+    private final KafkaProducerService kafkaProducerService = mock(KafkaProducerService.class);
+    private final CompanyEntityCache companyEntityCache = mock(CompanyEntityCache.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CompanyServiceImpl companyService;
+
+    @BeforeEach
+    void setUp() {
+        companyService = new CompanyServiceImpl(companyRepository, kafkaProducerService, mock(EmployeeReadModel.class),
+                companyEntityCache, new CompanyMapper(), entityManager, new ObjectMapper(), meterRegistry);
+
+        CompanyEntity stored = new CompanyEntity(companyId, "Acme", "1000", new ArrayList<>(List.of(kept, left)));
+        when(companyRepository.findById(companyId)).thenReturn(Optional.of(stored));
+        when(companyRepository.saveAndFlush(any(CompanyEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void writesAndAnnouncesOnlyTheMembershipDiff() {
+        CompanyEntity updated = companyService.updateCompany(companyId, new CompanyRequest("Acme Inc", "2000", List.of(kept, joined)));
+
+        verify(companyRepository).removeEmployees(companyId, List.of(left));
+        verify(companyRepository).addEmployees(companyId, List.of(joined));
+        verify(kafkaProducerService).sendBatchClearCompany(KafkaProducerService.membershipKey(left), new BatchClearCompanyEvent(companyId, List.of(left)));
+        verify(kafkaProducerService).sendBatchChangeCompany(KafkaProducerService.membershipKey(joined), new BatchChangeCompanyEvent(companyId, List.of(joined)));
+
+        // the loaded collection is detached instead of flushed over the written rows
+        verify(entityManager).detach(updated);
+        verify(companyEntityCache).evictEmployees(companyId);
+        verify(kafkaProducerService).sendEvictCompany(new EvictCompanyEvent(companyId));
+
+        assertEquals("Acme Inc", updated.getName());
+        assertEquals("2000", updated.getBudget());
+        assertEquals(List.of(kept, joined), updated.getEmployeeIds());
+        assertEquals(1, meterRegistry.summary("company.update.employees", "diff", "added").totalAmount());
+        assertEquals(1, meterRegistry.summary("company.update.employees", "diff", "removed").totalAmount());
+        assertEquals(1, meterRegistry.summary("company.update.employees", "diff", "unchanged").totalAmount());
+    }
+
+    @Test
+    void unchangedEmployeesAreNotWrittenOrAnnounced() {
+        companyService.updateCompany(companyId, new CompanyRequest("Acme", "1000", List.of(left, kept, kept)));
+
+        verify(companyRepository, never()).removeEmployees(any(), any());
+        verify(companyRepository, never()).addEmployees(any(), any());
+        verify(kafkaProducerService, never()).sendBatchClearCompany(anyString(), any());
+        verify(kafkaProducerService, never()).sendBatchChangeCompany(anyString(), any());
+        verify(kafkaProducerService).sendEvictCompany(new EvictCompanyEvent(companyId));
+    }
+
+    @Test
+    void missingEmployeeIdsLeaveTheMembershipAlone() {
+        CompanyEntity updated = companyService.updateCompany(companyId, new CompanyRequest("Acme", "1000", null));
+
+        verify(companyRepository, never()).removeEmployees(any(), any());
+        verify(companyRepository, never()).addEmployees(any(), any());
+        verify(entityManager, never()).detach(any());
+        assertEquals(List.of(kept, left), updated.getEmployeeIds());
+    }
+
+    @Test
+    void largeDiffsAreSplitByMembershipKey() {
+        List<UUID> joining = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            joining.add(UUID.randomUUID());
+        }
+        List<UUID> requested = new ArrayList<>(joining);
+        requested.add(kept);
+        requested.add(left);
+
+        companyService.updateCompany(companyId, new CompanyRequest("Acme", "1000", requested));
+
+        joining.stream().map(KafkaProducerService::membershipKey).distinct().forEach(key ->
+                verify(kafkaProducerService).sendBatchChangeCompany(key, new BatchChangeCompanyEvent(companyId,
+                        joining.stream().filter(id -> KafkaProducerService.membershipKey(id).equals(key)).toList())));
+    }
+
+    @Test
+    void scrollCursorIsKeyedByCompanyName() {
+        CompanyEntity acme = new CompanyEntity(UUID.randomUUID(), "Acme", "1000", List.of());
+        CompanyEntity globex = new CompanyEntity(UUID.randomUUID(), "Globex", "1000", List.of());
+        CompanyEntity initech = new CompanyEntity(UUID.randomUUID(), "Initech", "1000", List.of());
+        when(companyRepository.findFirstKeysetPage(PageRequest.of(0, 3))).thenReturn(List.of(acme, globex, initech));
+
+        CursorPage<?> page = companyService.getCompaniesAfter(null, 2, false, false);
+
+        assertEquals(2, page.getContent().size());
+        assertEquals(new KeysetCursor("Globex", globex.getId()), KeysetCursor.decode(page.getNextCursor()));
+
+        when(companyRepository.findKeysetPageAfter("Globex", globex.getId(), PageRequest.of(0, 3))).thenReturn(List.of(initech));
+        assertNull(companyService.getCompaniesAfter(page.getNextCursor(), 2, false, false).getNextCursor());
+    }
+
+}
@@ -0,0 +1,91 @@
+package company.service.employee;
+
+import company.repository.EmployeeSummaryRepository;
+import company.repository.ReadModelStateRepository;
+import company.repository.entities.ReadModelStateEntity;
+import company.service.configurations.EmployeeReadModelConfiguration;
+import company.web.dto.response.EmployeeResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Sinks;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmployeeReadModelTest {
+
+    private final EmployeeSummaryRepository employeeSummaryRepository = mock(EmployeeSummaryRepository.class);
+    private final ReadModelStateRepository readModelStateRepository = mock(ReadModelStateRepository.class);
+    private final EmployeeClient employeeClient = mock(EmployeeClient.class);
+
+    @Test
+    void notReadyUntilTheBootstrapCompletes() {
+        Sinks.Many<EmployeeResponse> export = Sinks.many().unicast().onBackpressureBuffer();
+        when(employeeClient.fetchAllEmployees()).thenReturn(export.asFlux());
+        EmployeeReadModel readModel = readModel(true);
+
+        readModel.bootstrap();
+        export.tryEmitNext(employee());
+        export.tryEmitNext(employee());
+        export.tryEmitNext(employee());
+
+        assertFalse(readModel.isReady());
+
+        export.tryEmitComplete();
+
+        verify(readModelStateRepository, timeout(5000)).save(any(ReadModelStateEntity.class));
+        verify(employeeSummaryRepository, timeout(5000).times(2)).insertMissing(any());
+        awaitReady(readModel);
+    }
+
+    @Test
+    void readyAtOnceWhenAlreadyBootstrapped() {
+        when(readModelStateRepository.existsById(any())).thenReturn(true);
+        EmployeeReadModel readModel = readModel(true);
+
+        readModel.bootstrap();
+
+        assertTrue(readModel.isReady());
+        verify(employeeClient, never()).fetchAllEmployees();
+    }
+
+    @Test
+    void readyWithoutBootstrap() {
+        EmployeeReadModel readModel = readModel(false);
+
+        readModel.bootstrap();
+
+        assertTrue(readModel.isReady());
+        verify(employeeClient, never()).fetchAllEmployees();
+    }
+
+    private EmployeeReadModel readModel(boolean bootstrap) {
+        EmployeeReadModelConfiguration configuration = mock(EmployeeReadModelConfiguration.class);
+        when(configuration.isBootstrap()).thenReturn(bootstrap);
+        when(configuration.getBatchSize()).thenReturn(2);
+        when(configuration.getCompanyLookupRatio()).thenReturn(0.5);
+        return new EmployeeReadModel(employeeSummaryRepository, readModelStateRepository, employeeClient, new SimpleMeterRegistry(), configuration);
+    }
+
+    private static EmployeeResponse employee() {
+        return new EmployeeResponse(UUID.randomUUID(), "Jane", "Doe", "+1 555 0100", null);
+    }
+
+    // ready is set right after the state row is saved, on the bootstrap thread
+    private static void awaitReady(EmployeeReadModel readModel) {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!readModel.isReady() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertTrue(readModel.isReady());
+    }
+
+}
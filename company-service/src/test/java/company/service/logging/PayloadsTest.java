@@ -0,0 +1,98 @@
+package company.service.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import company.repository.entities.CompanyEntity;
+import company.web.dto.response.EmployeeResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PayloadsTest {
+
+    private final Logger fullPayloads = (Logger) LoggerFactory.getLogger("company.payloads");
+
+    @BeforeEach
+    void summariesOnly() {
+        fullPayloads.setLevel(Level.INFO);
+    }
+
+    @AfterEach
+    void resetLevel() {
+        fullPayloads.setLevel(null);
+    }
+
+    @Test
+    void rendersNull() {
+        assertEquals("null", Payloads.summary(null).toString());
+    }
+
+    @Test
+    void companyIsSummarizedByEmployeeCount() {
+        UUID id = UUID.randomUUID();
+        CompanyEntity company = new CompanyEntity(id, "Acme", "1000", uuids(10_000));
+
+        assertEquals("CompanyEntity[id=" + id + ", employees=10000]", Payloads.summary(company).toString());
+    }
+
+    @Test
+    void collectionListsOnlyTheFirstIds() {
+        List<EmployeeResponse> employees = uuids(12).stream()
+                .map(id -> new EmployeeResponse(id, "First", "Last", "+1 555 0100", null))
+                .toList();
+
+        String summary = Payloads.summary(employees).toString();
+
+        String firstIds = String.join(", ", employees.stream().limit(5).map(employee -> employee.getId().toString()).toList());
+        assertTrue(summary.endsWith("[size=12, ids=[" + firstIds + ", +7]]"), summary);
+        assertFalse(summary.contains("First"), summary);
+    }
+
+    @Test
+    void pageListsOnlyTheFirstIds() {
+        PageImpl<UUID> page = new PageImpl<>(uuids(20), PageRequest.of(2, 20), 1000);
+
+        String summary = Payloads.summary(page).toString();
+
+        assertTrue(summary.startsWith("Page[number=2, size=20, elements=20, total=1000, ids=["), summary);
+        assertTrue(summary.endsWith(", +15]]"), summary);
+    }
+
+    @Test
+    void unknownPayloadIsTruncated() {
+        String payload = "x".repeat(10_000);
+
+        String summary = Payloads.summary(payload).toString();
+
+        assertEquals("x".repeat(256) + "…(10000 chars)", summary);
+    }
+
+    @Test
+    void shortUnknownPayloadIsKept() {
+        assertEquals("x".repeat(256), Payloads.summary("x".repeat(256)).toString());
+    }
+
+    @Test
+    void debugLevelRendersFullPayloads() {
+        String payload = "x".repeat(10_000);
+        fullPayloads.setLevel(Level.DEBUG);
+
+        assertEquals(payload, Payloads.summary(payload).toString());
+    }
+
+    private static List<UUID> uuids(int count) {
+        return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID()).toList();
+    }
+
+}
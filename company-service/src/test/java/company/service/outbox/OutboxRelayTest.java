@@ -0,0 +1,162 @@
+package company.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import company.repository.OutboxDeadLetterRepository;
+import company.repository.OutboxRepository;
+import company.repository.entities.OutboxDeadLetterEntity;
+import company.repository.entities.OutboxEntity;
+import company.service.configurations.OutboxConfiguration;
+import company.service.messages.company.EvictCompanyEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OutboxRepository outboxRepository = mock(OutboxRepository.class);
+    private final OutboxDeadLetterRepository outboxDeadLetterRepository = mock(OutboxDeadLetterRepository.class);
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        // the batch callback runs inline, an exception rolls it back and reaches relay()
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        OutboxTraceContext outboxTraceContext = mock(OutboxTraceContext.class);
+        when(outboxTraceContext.resume(any(), any(), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+
+        OutboxConfiguration outboxConfiguration = mock(OutboxConfiguration.class);
+        when(outboxConfiguration.getBatchSize()).thenReturn(100);
+        when(outboxConfiguration.getSendTimeoutMs()).thenReturn(1000L);
+
+        outboxRelay = new OutboxRelay(outboxRepository, outboxDeadLetterRepository, kafkaTemplate, transactionTemplate,
+                objectMapper, meterRegistry, outboxTraceContext, outboxConfiguration);
+        when(outboxRepository.tryLockRelay(anyLong())).thenReturn(true);
+    }
+
+    @Test
+    void publishesInIdOrderAndDeletesTheBatch() throws Exception {
+        OutboxEntity first = message(1L, EvictCompanyEvent.class.getName());
+        OutboxEntity second = message(2L, EvictCompanyEvent.class.getName());
+        OutboxEntity third = message(3L, EvictCompanyEvent.class.getName());
+        when(outboxRepository.lockNextBatch(100)).thenReturn(List.of(first, second, third));
+        when(kafkaTemplate.send(any(String.class), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        outboxRelay.relay();
+
+        InOrder order = inOrder(kafkaTemplate, outboxRepository);
+        for (OutboxEntity message : List.of(first, second, third)) {
+            order.verify(kafkaTemplate).send("company-evict-company", message.getMessageKey(), event(message));
+        }
+        order.verify(outboxRepository).deleteAllByIdIn(List.of(1L, 2L, 3L));
+        assertEquals(3, meterRegistry.counter("outbox.published").count());
+    }
+
+    @Test
+    void unacknowledgedBatchIsKeptAndRetried() {
+        OutboxEntity message = message(1L, EvictCompanyEvent.class.getName());
+        when(outboxRepository.lockNextBatch(100)).thenReturn(List.of(message));
+        when(kafkaTemplate.send(any(String.class), any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        outboxRelay.relay();
+
+        verify(outboxRepository, never()).deleteAllByIdIn(any());
+        verify(outboxDeadLetterRepository, never()).save(any());
+        assertEquals(1, meterRegistry.counter("outbox.relay.failures").count());
+
+        outboxRelay.relay();
+
+        verify(outboxRepository).deleteAllByIdIn(List.of(1L));
+    }
+
+    @Test
+    void unreadableMessageIsDeadLetteredAndRemoved() {
+        OutboxEntity unreadable = message(1L, "company.service.messages.Removed");
+        OutboxEntity next = message(2L, EvictCompanyEvent.class.getName());
+        when(outboxRepository.lockNextBatch(100)).thenReturn(List.of(unreadable, next));
+        when(kafkaTemplate.send(any(String.class), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        outboxRelay.relay();
+
+        ArgumentCaptor<OutboxDeadLetterEntity> deadLetter = ArgumentCaptor.forClass(OutboxDeadLetterEntity.class);
+        verify(outboxDeadLetterRepository).save(deadLetter.capture());
+        assertEquals(1L, deadLetter.getValue().getId());
+        assertEquals(unreadable.getPayload(), deadLetter.getValue().getPayload());
+
+        // the messages behind it are not held back, and it leaves the outbox with them
+        verify(kafkaTemplate).send(eq("company-evict-company"), eq(next.getMessageKey()), any());
+        verify(outboxRepository).deleteAllByIdIn(List.of(1L, 2L));
+        assertEquals(1, meterRegistry.counter("outbox.dead.letters", "topic", "company-evict-company").count());
+        assertEquals(1, meterRegistry.counter("outbox.published").count());
+    }
+
+    @Test
+    void unserializableMessageIsDeadLetteredAndRemoved() {
+        OutboxEntity message = message(1L, EvictCompanyEvent.class.getName());
+        when(outboxRepository.lockNextBatch(100)).thenReturn(List.of(message));
+        when(kafkaTemplate.send(any(String.class), any(), any())).thenThrow(new SerializationException("cannot serialize"));
+
+        outboxRelay.relay();
+
+        verify(outboxDeadLetterRepository).save(any());
+        verify(outboxRepository).deleteAllByIdIn(List.of(1L));
+        assertEquals(0, meterRegistry.counter("outbox.relay.failures").count());
+    }
+
+    @Test
+    void nothingIsReadWhileAnotherInstanceRelays() {
+        when(outboxRepository.tryLockRelay(anyLong())).thenReturn(false);
+
+        outboxRelay.relay();
+
+        verify(outboxRepository, never()).lockNextBatch(anyInt());
+        verify(kafkaTemplate, never()).send(any(String.class), any(), any());
+    }
+
+    private OutboxEntity message(long id, String type) {
+        try {
+            UUID companyId = UUID.randomUUID();
+            return new OutboxEntity(id, "company-evict-company", companyId.toString(), type,
+                    objectMapper.writeValueAsString(new EvictCompanyEvent(companyId)), Instant.now(), null);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Object event(OutboxEntity message) throws Exception {
+        return objectMapper.readValue(message.getPayload(), EvictCompanyEvent.class);
+    }
+
+}
@@ -0,0 +1,49 @@
+package company.service.pagination;
+
+import company.web.controllers.exceptions.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeysetCursorTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Acme", "", "a:b:c", "Ünïcødé ✓", "   "})
+    void roundTrips(String key) {
+        KeysetCursor cursor = new KeysetCursor(key, UUID.randomUUID());
+
+        String token = cursor.encode();
+
+        assertFalse(token.contains("+") || token.contains("/") || token.contains("="), "not url-safe: " + token);
+        assertEquals(cursor, KeysetCursor.decode(token));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "!!!", "not a cursor", "%%%%"})
+    void rejectsMalformedTokens(String token) {
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode(token));
+    }
+
+    @Test
+    void rejectsTokensWithoutSeparator() {
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode(encode(UUID.randomUUID().toString())));
+    }
+
+    @Test
+    void rejectsTokensWithInvalidId() {
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode(encode("not-a-uuid:Acme")));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -2,6 +2,7 @@ plugins {
     id("java")
     id("org.springframework.boot") version("3.5.4")
     id("io.spring.dependency-management") version ("1.1.7")
+    id("me.champeau.jmh") version ("0.7.3")
 }
 
 group = "employee"
@@ -25,12 +26,17 @@ dependencies {
     implementation("org.springframework.cloud:spring-cloud-starter-config")
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
+    implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
 
     // postgres
     runtimeOnly("org.postgresql:postgresql")
 
+    // r2dbc (reactive profile)
+    implementation("org.springframework.boot:spring-boot-starter-data-r2dbc")
+    runtimeOnly("org.postgresql:r2dbc-postgresql")
+
     // lombok
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
@@ -41,6 +47,28 @@ dependencies {
     // kafka
     implementation("org.springframework.kafka:spring-kafka")
 
+    // cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
+    // metrics
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+    // @Timed service methods
+    implementation("org.springframework.boot:spring-boot-starter-aop")
+
+    // tracing: micrometer observations exported through OpenTelemetry
+    implementation("io.micrometer:micrometer-tracing-bridge-otel")
+    implementation("io.opentelemetry:opentelemetry-exporter-otlp")
+    // jdbc connection and query spans
+    implementation("net.ttddyy.observation:datasource-micrometer-spring-boot:1.1.0")
+
+    // second-level cache
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("com.github.ben-manes.caffeine:jcache")
+
+    // jmh (in-memory database for service benchmarks)
+    jmhRuntimeOnly("com.h2database:h2")
+
 }
 
 dependencyManagement {
@@ -49,6 +77,13 @@ dependencyManagement {
     }
 }
 
+jmh {
+    jmhVersion.set("1.37")
+    // allocation rate next to throughput and sample-time percentiles
+    profilers.add("gc")
+    resultFormat.set("JSON")
+}
+
 tasks.test {
     useJUnitPlatform()
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package employee.benchmarks;
+
+import employee.repository.entities.EmployeeEntity;
+import employee.web.dto.response.CompanyResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic benchmark fixtures: the same seed gives the same ids in every fork
+ */
+final class BenchmarkData {
+
+    private final Random random;
+
+    BenchmarkData(long seed) {
+        this.random = new Random(seed);
+    }
+
+    UUID nextId() {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+
+    List<EmployeeEntity> employees(UUID companyId, int count) {
+        List<EmployeeEntity> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(new EmployeeEntity(nextId(), "First" + i, "Last" + i, "+1-555-" + (1000000 + i), companyId));
+        }
+        return employees;
+    }
+
+    CompanyResponse company(UUID companyId, List<EmployeeEntity> employees) {
+        return new CompanyResponse(companyId, "Company " + companyId.toString().substring(0, 8), "1000000",
+                employees.stream().map(EmployeeEntity::getId).toList());
+    }
+
+}
@@ -0,0 +1,60 @@
+package employee.benchmarks;
+
+import employee.repository.entities.EmployeeEntity;
+import employee.web.dto.response.CompanyResponse;
+import employee.web.dto.response.EmployeeFullResponse;
+import employee.web.dto.response.EmployeeResponse;
+import employee.web.dto.response.mappers.EmployeeMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping all employees of one company, as page and batch reads do
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeMapperBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int employees;
+
+    private final EmployeeMapper employeeMapper = new EmployeeMapper();
+
+    private List<EmployeeEntity> entities;
+    private CompanyResponse company;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkData data = new BenchmarkData(42);
+        UUID companyId = data.nextId();
+        entities = data.employees(companyId, employees);
+        company = data.company(companyId, entities);
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> toResponses() {
+        List<EmployeeResponse> responses = new ArrayList<>(entities.size());
+        for (EmployeeEntity entity : entities) {
+            responses.add(employeeMapper.toResponse(entity));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<EmployeeFullResponse> toFullResponses() {
+        List<EmployeeFullResponse> responses = new ArrayList<>(entities.size());
+        for (EmployeeEntity entity : entities) {
+            responses.add(employeeMapper.toFullResponse(entity, company));
+        }
+        return responses;
+    }
+
+}
@@ -0,0 +1,80 @@
+package employee.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import employee.repository.entities.EmployeeEntity;
+import employee.web.dto.response.CompanyResponse;
+import employee.web.dto.response.EmployeeFullResponse;
+import employee.web.dto.response.EmployeeResponse;
+import employee.web.dto.response.mappers.EmployeeMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response bodies as the controllers write them, with an ObjectMapper built like the Spring Boot one.
+ * Every full response embeds its company with all of the company employee ids.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    // employees of the company
+    @Param({"1", "100", "10000"})
+    private int employees;
+
+    private ObjectMapper objectMapper;
+
+    private EmployeeResponse response;
+    private EmployeeFullResponse fullResponse;
+    private Page<EmployeeFullResponse> fullPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        EmployeeMapper employeeMapper = new EmployeeMapper();
+        BenchmarkData data = new BenchmarkData(42);
+
+        UUID companyId = data.nextId();
+        List<EmployeeEntity> entities = data.employees(companyId, employees);
+        CompanyResponse company = data.company(companyId, entities);
+
+        response = employeeMapper.toResponse(entities.get(0));
+        fullResponse = employeeMapper.toFullResponse(entities.get(0), company);
+
+        List<EmployeeFullResponse> content = entities.stream()
+                .limit(PAGE_SIZE)
+                .map(entity -> employeeMapper.toFullResponse(entity, company))
+                .toList();
+        fullPage = new PageImpl<>(content, PageRequest.of(0, PAGE_SIZE), employees);
+    }
+
+    @Benchmark
+    public byte[] employeeResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] employeeFullResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(fullResponse);
+    }
+
+    // getAllEmployees extraInfo page
+    @Benchmark
+    public byte[] employeeFullResponsePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(fullPage);
+    }
+
+}
@@ -0,0 +1,72 @@
+package employee.benchmarks;
+
+import employee.service.employee.contracts.EmployeeService;
+import employee.web.dto.response.CursorPage;
+import employee.web.dto.response.contracts.Employee;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service reads end to end: transaction, repositories (second-level cache included), company cache and assembly.
+ * Sample time mode reports latency percentiles; run with -prof gc for allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+
+    private static final int COMPANIES = 10;
+    private static final int PAGE_SIZE = 20;
+
+    // employees per company
+    @Param({"1", "100", "10000"})
+    private int employees;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+    private List<UUID> companyIds;
+    private List<UUID> employeeIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = ServiceBenchmarkContext.start();
+        employeeService = context.getBean(EmployeeService.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        companyIds = ServiceBenchmarkContext.seed(jdbcTemplate, new BenchmarkData(42), COMPANIES, employees);
+        employeeIds = jdbcTemplate.queryForList("select id from employee_table order by id limit 1000", UUID.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Employee readEmployeeExtraInfo() {
+        next = (next + 1) % employeeIds.size();
+        return employeeService.readEmployee(employeeIds.get(next), true);
+    }
+
+    @Benchmark
+    public Page<? extends Employee> getAllEmployeesExtraInfo() {
+        return employeeService.getAllEmployees(PageRequest.of(0, PAGE_SIZE), true);
+    }
+
+    @Benchmark
+    public CursorPage<? extends Employee> getCompanyEmployees() {
+        next = (next + 1) % companyIds.size();
+        return employeeService.getCompanyEmployees(companyIds.get(next), null, PAGE_SIZE, false, false);
+    }
+
+}
@@ -0,0 +1,102 @@
+package employee.benchmarks;
+
+import employee.repository.entities.EmployeeEntity;
+import employee.service.company.CompanyCache;
+import employee.service.company.CompanyClient;
+import employee.service.configurations.CompanyCacheConfiguration;
+import employee.service.configurations.CompanyClientConfiguration;
+import employee.service.configurations.DiscoveryConfiguration;
+import employee.service.configurations.EmployeeImportConfiguration;
+import employee.service.employee.implementations.EmployeeServiceImpl;
+import employee.service.kafka.KafkaProducerService;
+import employee.service.outbox.OutboxTraceContext;
+import employee.web.dto.response.CompanyResponse;
+import employee.web.dto.response.mappers.EmployeeMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Employee service layer without web server, Kafka listeners, outbox relay and discovery.
+ * Repositories run against in-memory H2 (application-benchmark.properties), company-service is stubbed.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EntityScan("employee.repository.entities")
+@EnableJpaRepositories("employee.repository")
+@Import({
+        EmployeeServiceImpl.class,
+        EmployeeMapper.class,
+        KafkaProducerService.class,
+        OutboxTraceContext.class,
+        CompanyCache.class,
+        CompanyCacheConfiguration.class,
+        CompanyClientConfiguration.class,
+        DiscoveryConfiguration.class,
+        EmployeeImportConfiguration.class
+})
+public class ServiceBenchmarkContext {
+
+    // companies registered by seed, answered without a network round trip
+    static final Map<UUID, CompanyResponse> COMPANIES = new ConcurrentHashMap<>();
+
+    @Bean
+    public CompanyClient companyClient(DiscoveryConfiguration discoveryConfiguration, CompanyClientConfiguration clientConfiguration, MeterRegistry meterRegistry) {
+        return new CompanyClient(discoveryConfiguration, clientConfiguration, WebClient.builder(), meterRegistry) {
+            @Override
+            public Mono<CompanyResponse> fetchCompany(UUID companyId) {
+                return Mono.justOrEmpty(COMPANIES.get(companyId));
+            }
+        };
+    }
+
+    static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(ServiceBenchmarkContext.class)
+                .profiles("benchmark")
+                // must be known before application.properties imports the config server
+                .properties("spring.cloud.config.enabled=false")
+                .run();
+    }
+
+    /**
+     * Inserts companies' employees and registers the companies with the stubbed client
+     * @param jdbcTemplate benchmark database
+     * @param data fixtures
+     * @param companies companies
+     * @param employees employees per company
+     * @return company ids
+     */
+    static List<UUID> seed(JdbcTemplate jdbcTemplate, BenchmarkData data, int companies, int employees) {
+        COMPANIES.clear();
+        for (int c = 0; c < companies; c++) {
+            UUID companyId = data.nextId();
+            List<EmployeeEntity> entities = data.employees(companyId, employees);
+            COMPANIES.put(companyId, data.company(companyId, entities));
+
+            jdbcTemplate.batchUpdate("insert into employee_table (id, first_name, last_name, phone_number, company_id) values (?, ?, ?, ?, ?)",
+                    entities, 1000, (statement, employee) -> {
+                        statement.setObject(1, employee.getId());
+                        statement.setString(2, employee.getFirstName());
+                        statement.setString(3, employee.getLastName());
+                        statement.setString(4, employee.getPhone());
+                        statement.setObject(5, employee.getCompanyId());
+                    });
+        }
+        return List.copyOf(COMPANIES.keySet());
+    }
+
+}
@@ -0,0 +1,15 @@
+package employee.repository;
+
+import employee.repository.entities.EmployeeEntity;
+
+import java.util.Collection;
+
+public interface EmployeeBulkRepository {
+
+    /**
+     * Inserts employees with a single JDBC batch, bypassing the persistence context
+     * @param employees new employees with assigned ids
+     */
+    void insertAll(Collection<EmployeeEntity> employees);
+
+}
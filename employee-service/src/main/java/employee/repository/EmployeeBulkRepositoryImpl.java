@@ -0,0 +1,32 @@
+package employee.repository;
+
+import employee.repository.entities.EmployeeEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+
+public class EmployeeBulkRepositoryImpl implements EmployeeBulkRepository {
+
+    private static final String INSERT =
+            "insert into employee_table (id, first_name, last_name, phone_number, company_id, version) values (?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public EmployeeBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(Collection<EmployeeEntity> employees) {
+        jdbcTemplate.batchUpdate(INSERT, employees, employees.size(), (statement, employee) -> {
+            statement.setObject(1, employee.getId());
+            statement.setString(2, employee.getFirstName());
+            statement.setString(3, employee.getLastName());
+            statement.setString(4, employee.getPhone());
+            statement.setObject(5, employee.getCompanyId());
+        });
+    }
+
+}
@@ -1,10 +1,62 @@
 package employee.repository;
 
 import employee.repository.entities.EmployeeEntity;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<EmployeeEntity, UUID> {}
+public interface EmployeeRepository extends JpaRepository<EmployeeEntity, UUID>, EmployeeBulkRepository {
+
+    // keyset pagination: (last_name, id) order without offset and count queries
+
+    @Query("select e from EmployeeEntity e order by e.lastName, e.id")
+    List<EmployeeEntity> findFirstKeysetPage(Pageable limit);
+
+    @Query("select e from EmployeeEntity e " +
+            "where e.lastName > :lastName or (e.lastName = :lastName and e.id > :id) " +
+            "order by e.lastName, e.id")
+    List<EmployeeEntity> findKeysetPageAfter(@Param("lastName") String lastName, @Param("id") UUID id, Pageable limit);
+
+    // company employees: (company_id, id) index range scans in id order
+
+    @Query("select e from EmployeeEntity e where e.companyId = :companyId order by e.id")
+    List<EmployeeEntity> findFirstCompanyPage(@Param("companyId") UUID companyId, Pageable limit);
+
+    @Query("select e from EmployeeEntity e where e.companyId = :companyId and e.id > :id order by e.id")
+    List<EmployeeEntity> findCompanyPageAfter(@Param("companyId") UUID companyId, @Param("id") UUID id, Pageable limit);
+
+    long countByCompanyId(UUID companyId);
+
+    // forward-only export cursor, must be consumed and closed inside a transaction
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select e from EmployeeEntity e")
+    Stream<EmployeeEntity> streamAll();
+
+    // null companyId clears the company
+    @Modifying
+    @Query("update EmployeeEntity e set e.companyId = :companyId where e.id in :ids")
+    int updateCompanyId(@Param("companyId") UUID companyId, @Param("ids") Collection<UUID> ids);
+
+    // employees already moved on to another company keep it: a late clear cannot undo a newer assignment
+    @Modifying
+    @Query("update EmployeeEntity e set e.companyId = null where e.id in :ids and e.companyId = :companyId")
+    int clearCompanyId(@Param("companyId") UUID companyId, @Param("ids") Collection<UUID> ids);
+
+}
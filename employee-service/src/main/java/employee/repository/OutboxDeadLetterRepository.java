@@ -0,0 +1,9 @@
+package employee.repository;
+
+import employee.repository.entities.OutboxDeadLetterEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxDeadLetterRepository extends JpaRepository<OutboxDeadLetterEntity, Long> {
+}
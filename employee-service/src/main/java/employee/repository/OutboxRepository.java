@@ -0,0 +1,32 @@
+package employee.repository;
+
+import employee.repository.entities.OutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxRepository extends JpaRepository<OutboxEntity, Long> {
+
+    // held until the calling transaction ends, false while another transaction holds it
+    @Query(value = "select pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryLockRelay(@Param("key") long key);
+
+    // oldest pending messages, read by the instance holding the relay lock
+    @Query(value = "select * from outbox_table order by id limit :limit for update", nativeQuery = true)
+    List<OutboxEntity> lockNextBatch(@Param("limit") int limit);
+
+    @Modifying
+    @Query("delete from OutboxEntity o where o.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    // primary key lookup, unlike count(*)
+    @Query("select max(o.id) from OutboxEntity o")
+    Long findNewestId();
+
+}
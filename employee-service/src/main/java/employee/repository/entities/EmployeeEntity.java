@@ -2,15 +2,25 @@ package employee.repository.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "employee_table")
+@Table(
+    name = "employee_table",
+    indexes = {
+        @Index(name = "employee_last_name_id_idx", columnList = "last_name, id"),
+        @Index(name = "employee_company_id_id_idx", columnList = "company_id, id")
+    }
+)
 public class EmployeeEntity {
 
     @Id
@@ -28,4 +38,14 @@ public class EmployeeEntity {
     @Column(name = "company_id")
     private UUID companyId;
 
+    // incremented by every update under the row lock: the commit order of changes to this employee
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
+    // new employee, the version is assigned on insert
+    public EmployeeEntity(UUID id, String firstName, String lastName, String phone, UUID companyId) {
+        this(id, firstName, lastName, phone, companyId, null);
+    }
+
 }
@@ -0,0 +1,42 @@
+package employee.repository.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+// outbox messages the relay could not publish, kept for inspection and manual replay
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "outbox_dead_letter_table")
+public class OutboxDeadLetterEntity {
+
+    // id of the outbox message
+    @Id
+    private Long id;
+
+    @Column(name = "topic", nullable = false)
+    private String topic;
+
+    @Column(name = "message_key")
+    private String messageKey;
+
+    @Column(name = "message_type", nullable = false)
+    private String messageType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "failed_at", nullable = false)
+    private Instant failedAt;
+
+    @Column(name = "error", columnDefinition = "text")
+    private String error;
+
+}
@@ -0,0 +1,35 @@
+package employee.repository.reactive;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.util.UUID;
+
+/**
+ * R2DBC mapping of employee_table, read by the reactive profile only
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("employee_table")
+public class EmployeeRow {
+
+    @Id
+    private UUID id;
+
+    @Column("first_name")
+    private String firstName;
+
+    @Column("last_name")
+    private String lastName;
+
+    @Column("phone_number")
+    private String phone;
+
+    @Column("company_id")
+    private UUID companyId;
+
+}
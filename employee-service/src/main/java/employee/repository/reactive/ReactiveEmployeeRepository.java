@@ -0,0 +1,15 @@
+package employee.repository.reactive;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+@Repository
+public interface ReactiveEmployeeRepository extends ReactiveCrudRepository<EmployeeRow, UUID> {
+
+    Flux<EmployeeRow> findAllBy(Pageable pageable);
+
+}
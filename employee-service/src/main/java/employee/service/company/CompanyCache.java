@@ -0,0 +1,102 @@
+package employee.service.company;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import employee.service.configurations.CompanyCacheConfiguration;
+import employee.web.dto.response.CompanyResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Size and TTL bounded cache of company-service responses, evicted by company-service events.
+ */
+@Component
+public class CompanyCache {
+
+    private final AsyncCache<UUID, CompanyResponse> cache;
+    private final CompanyClient companyClient;
+
+    @Autowired
+    public CompanyCache(CompanyCacheConfiguration cacheConfiguration, CompanyClient companyClient, MeterRegistry meterRegistry) {
+        this.companyClient = companyClient;
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(cacheConfiguration.getMaximumSize())
+                .expireAfterWrite(Duration.ofMillis(cacheConfiguration.getTtlMs()))
+                .recordStats()
+                .<UUID, CompanyResponse>buildAsync(), "company-cache");
+    }
+
+    /**
+     * @param companyId company, may be null
+     * @return cached or requested company, null for null companyId
+     */
+    public CompanyResponse getCompany(UUID companyId) {
+        if (companyId == null) {
+            return null;
+        }
+        return cache.get(companyId, this::loadCompany).join();
+    }
+
+    /**
+     * Requests only distinct companies missing in cache
+     * @param companyIds companies, nulls are skipped
+     * @return companies by id, unavailable companies are absent
+     */
+    public Map<UUID, CompanyResponse> getCompanies(Collection<UUID> companyIds) {
+        return cache.getAll(companyIds.stream().filter(Objects::nonNull).collect(Collectors.toSet()), this::loadCompanies).join();
+    }
+
+    /**
+     * Non-blocking getCompany, cancelling does not cancel a load shared with other callers
+     * @param companyId company, may be null
+     * @return cached or requested company, empty for null companyId
+     */
+    public Mono<CompanyResponse> fetchCompany(UUID companyId) {
+        if (companyId == null) {
+            return Mono.empty();
+        }
+        return Mono.fromFuture(() -> cache.get(companyId, this::loadCompany), true);
+    }
+
+    /**
+     * Non-blocking getCompanies
+     * @param companyIds companies, nulls are skipped
+     * @return companies by id, unavailable companies are absent
+     */
+    public Mono<Map<UUID, CompanyResponse>> fetchCompanies(Collection<UUID> companyIds) {
+        return Mono.fromFuture(() -> cache.getAll(companyIds.stream().filter(Objects::nonNull).collect(Collectors.toSet()), this::loadCompanies), true);
+    }
+
+    public void evict(UUID companyId) {
+        cache.synchronous().invalidate(companyId);
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    private CompletableFuture<CompanyResponse> loadCompany(UUID companyId, Executor executor) {
+        return companyClient.fetchCompany(companyId).toFuture();
+    }
+
+    private CompletableFuture<Map<UUID, CompanyResponse>> loadCompanies(Set<? extends UUID> companyIds, Executor executor) {
+        return companyClient.fetchCompanies(companyIds)
+                .collectMap(CompanyResponse::getId, company -> company)
+                .toFuture();
+    }
+
+}
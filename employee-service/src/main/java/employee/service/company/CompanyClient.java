@@ -1,28 +1,51 @@
 package employee.service.company;
 
+import employee.service.configurations.CompanyClientConfiguration;
 import employee.service.configurations.DiscoveryConfiguration;
 import employee.web.dto.response.CompanyResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeoutException;
 
+@Slf4j
 @Component
 public class CompanyClient {
 
     private final String COMPANY_SERVICE;
+    private final int MAX_IN_FLIGHT;
+    private final Duration TIMEOUT;
     private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
 
     @Autowired
-    public CompanyClient(DiscoveryConfiguration discoveryConfiguration, WebClient.Builder builder) {
+    public CompanyClient(DiscoveryConfiguration discoveryConfiguration, CompanyClientConfiguration clientConfiguration, WebClient.Builder builder, MeterRegistry meterRegistry) {
         COMPANY_SERVICE = discoveryConfiguration.getCompanyService();
+        MAX_IN_FLIGHT = clientConfiguration.getMaxInFlight();
+        TIMEOUT = Duration.ofMillis(clientConfiguration.getTimeoutMs());
         this.webClient = builder.build();
+        this.meterRegistry = meterRegistry;
     }
 
     public CompanyResponse getCompany(UUID companyId) {
-        return webClient.get()
+        return fetchCompany(companyId).block();
+    }
+
+    public Mono<CompanyResponse> fetchCompany(UUID companyId) {
+        return timed("company", webClient.get()
                 .uri(COMPANY_SERVICE + "companies/" + companyId)
                 .retrieve()
                 .onStatus(
@@ -32,7 +55,58 @@ public class CompanyClient {
                         )
                 )
                 .bodyToMono(CompanyResponse.class)
+                .timeout(TIMEOUT));
+    }
+
+    /**
+     * Resolves distinct companies, blocking until all requests complete
+     * @param companyIds companies, nulls are skipped
+     * @return companies by id in companyIds order, unavailable companies are absent
+     */
+    public Map<UUID, CompanyResponse> getCompanies(Collection<? extends UUID> companyIds) {
+        return fetchCompanies(companyIds)
+                .collectMap(CompanyResponse::getId, company -> company, LinkedHashMap::new)
                 .block();
     }
 
+    /**
+     * Fans out one request per distinct company with at most MAX_IN_FLIGHT requests at a time.
+     * Companies are emitted in companyIds order; failed or timed out requests are skipped.
+     * @param companyIds companies, nulls are skipped
+     * @return companies
+     */
+    public Flux<CompanyResponse> fetchCompanies(Collection<? extends UUID> companyIds) {
+        Set<UUID> distinct = new LinkedHashSet<>(companyIds);
+        distinct.remove(null);
+        meterRegistry.summary("company.client.fanout.requests").record(distinct.size());
+
+        return Flux.fromIterable(distinct)
+                .flatMapSequential(companyId -> fetchCompany(companyId)
+                        .onErrorResume(e -> {
+                            log.warn("Company {} request failed: {}", companyId, e.getMessage());
+                            return Mono.empty();
+                        }), MAX_IN_FLIGHT);
+    }
+
+    /**
+     * Utility method
+     * Times one company-service request from subscription to its outcome: success, error, timeout or cancelled
+     * @param request request tag
+     * @param call request
+     * @return timed request
+     */
+    private <T> Mono<T> timed(String request, Mono<T> call) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return call
+                    .doOnSuccess(result -> sample.stop(requestTimer(request, "success")))
+                    .doOnError(e -> sample.stop(requestTimer(request, e instanceof TimeoutException ? "timeout" : "error")))
+                    .doOnCancel(() -> sample.stop(requestTimer(request, "cancelled")));
+        });
+    }
+
+    private Timer requestTimer(String request, String outcome) {
+        return meterRegistry.timer("company.client.requests", "request", request, "outcome", outcome);
+    }
+
 }
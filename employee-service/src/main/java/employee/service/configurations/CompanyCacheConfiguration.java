@@ -0,0 +1,19 @@
+package employee.service.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Configuration
+public class CompanyCacheConfiguration {
+
+    // cached companies limit, least used ones are evicted first
+    @Value("${company-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    // cached company lifetime, bounds staleness if an evict event is lost
+    @Value("${company-cache.ttl-ms:60000}")
+    private long ttlMs;
+
+}
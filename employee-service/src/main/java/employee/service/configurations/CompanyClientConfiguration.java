@@ -0,0 +1,19 @@
+package employee.service.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Configuration
+public class CompanyClientConfiguration {
+
+    // concurrent company-service requests per fan-out
+    @Value("${company-client.max-in-flight:8}")
+    private int maxInFlight;
+
+    // per request timeout
+    @Value("${company-client.timeout-ms:2000}")
+    private long timeoutMs;
+
+}
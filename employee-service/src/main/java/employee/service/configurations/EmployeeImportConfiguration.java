@@ -0,0 +1,15 @@
+package employee.service.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Configuration
+public class EmployeeImportConfiguration {
+
+    // rows per JDBC insert batch and employee ids per company-add-employees event
+    @Value("${employee-import.batch-size:500}")
+    private int batchSize;
+
+}
@@ -0,0 +1,65 @@
+package employee.service.configurations;
+
+import lombok.Getter;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.support.converter.BatchMessagingMessageConverter;
+import org.springframework.kafka.support.converter.RecordMessageConverter;
+
+@Getter
+@Configuration
+public class KafkaConfiguration {
+
+    // membership records are keyed by employee bucket, partitions bound the listener concurrency
+    @Value("${kafka.topics.partitions:6}")
+    private int partitions;
+
+    @Value("${kafka.topics.replicas:1}")
+    private short replicas;
+
+    /**
+     * Topics consumed by this service, created on startup
+     * or grown to the configured partition count
+     */
+    @Bean
+    public KafkaAdmin.NewTopics consumedTopics() {
+        return new KafkaAdmin.NewTopics(
+                topic("employee-batch-change-company"),
+                topic("employee-batch-clear-company"),
+                topic("employee-evict-company"),
+                topic("employee-evict-employees")
+        );
+    }
+
+    /**
+     * Listener factory delivering every poll as one list,
+     * otherwise configured like the default spring.kafka.listener one
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            ObjectProvider<RecordMessageConverter> recordMessageConverter) {
+
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(true);
+        recordMessageConverter.ifAvailable(converter ->
+                factory.setBatchMessageConverter(new BatchMessagingMessageConverter(converter))
+        );
+        return factory;
+    }
+
+    private NewTopic topic(String name) {
+        return TopicBuilder.name(name).partitions(partitions).replicas(replicas).build();
+    }
+
+}
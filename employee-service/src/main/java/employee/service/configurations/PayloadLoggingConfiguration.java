@@ -0,0 +1,19 @@
+package employee.service.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Configuration
+public class PayloadLoggingConfiguration {
+
+    // share of requests whose INFO lines are logged, WARN and ERROR are always logged
+    @Value("${payload-logging.sample-rate:1.0}")
+    private double sampleRate;
+
+    // per controller method overrides, e.g. getAllEmployees=0.01,scrollEmployees=0.1
+    @Value("${payload-logging.endpoint-sample-rates:}")
+    private String endpointSampleRates;
+
+}
@@ -0,0 +1,21 @@
+package employee.service.configurations;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+@Profile("reactive")
+@Configuration
+@EnableR2dbcRepositories(basePackages = "employee.repository.reactive")
+public class ReactiveConfiguration implements WebFluxConfigurer {
+
+    // Pageable controller arguments, registered by Boot for Spring MVC only
+    @Override
+    public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+        configurer.addCustomResolver(new ReactivePageableHandlerMethodArgumentResolver());
+    }
+
+}
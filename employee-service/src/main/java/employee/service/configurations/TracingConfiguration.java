@@ -0,0 +1,19 @@
+package employee.service.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Configuration
+public class TracingConfiguration {
+
+    // in-process exporter behind /actuator/traces, next to (or instead of) the OTLP collector
+    @Value("${tracing.in-memory.enabled:false}")
+    private boolean inMemoryEnabled;
+
+    // most recent traces kept, older ones are dropped whole
+    @Value("${tracing.in-memory.max-traces:1000}")
+    private int inMemoryMaxTraces;
+
+}
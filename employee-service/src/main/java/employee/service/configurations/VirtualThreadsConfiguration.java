@@ -0,0 +1,15 @@
+package employee.service.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Configuration
+public class VirtualThreadsConfiguration {
+
+    // shorter pinning is not reported
+    @Value("${virtual-threads.pinned-threshold-ms:20}")
+    private long pinnedThresholdMs;
+
+}
@@ -0,0 +1,27 @@
+package employee.service.configurations;
+
+import employee.web.logging.RequestLogSamplingInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// servlet stack only, the reactive profile serves reads through WebFlux
+@Profile("!reactive")
+@Configuration
+public class WebMvcConfiguration implements WebMvcConfigurer {
+
+    private final RequestLogSamplingInterceptor requestLogSamplingInterceptor;
+
+    @Autowired
+    public WebMvcConfiguration(RequestLogSamplingInterceptor requestLogSamplingInterceptor) {
+        this.requestLogSamplingInterceptor = requestLogSamplingInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestLogSamplingInterceptor);
+    }
+
+}
@@ -0,0 +1,93 @@
+package employee.service.diagnostics;
+
+import employee.service.configurations.VirtualThreadsConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Virtual-thread mode only: reports JFR jdk.VirtualThreadPinned events by the library they happened in.
+ * Kept per service, the services are separate builds with no shared module.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration THRESHOLD;
+    private final RecordingStream stream = new RecordingStream();
+
+    @Autowired
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, VirtualThreadsConfiguration virtualThreadsConfiguration) {
+        this.meterRegistry = meterRegistry;
+        this.THRESHOLD = Duration.ofMillis(virtualThreadsConfiguration.getPinnedThresholdMs());
+    }
+
+    @PostConstruct
+    public void start() {
+        stream.enable(PINNED_EVENT).withThreshold(THRESHOLD).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started with threshold {} ms", THRESHOLD.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        stream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+        String source = source(frames);
+        meterRegistry.timer("jvm.threads.virtual.pinned", "source", source).record(event.getDuration());
+        log.warn("Virtual thread pinned for {} ms in {}: {}", event.getDuration().toMillis(), source,
+                frames.stream().limit(LOGGED_FRAMES)
+                        .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                        .collect(Collectors.joining(" < ")));
+    }
+
+    /**
+     * Utility method
+     * Attributes the pinning to the innermost known library frame
+     * @param frames stack, innermost first
+     * @return source tag
+     */
+    private String source(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith("org.hibernate.")) {
+                return "hibernate";
+            }
+            if (type.startsWith("org.postgresql.") || type.startsWith("com.zaxxer.hikari.")) {
+                return "jdbc";
+            }
+            if (type.startsWith("com.github.benmanes.caffeine.") || type.startsWith("java.util.concurrent.ConcurrentHashMap")) {
+                return "cache";
+            }
+            if (type.startsWith("org.apache.kafka.") || type.startsWith("org.springframework.kafka.")) {
+                return "kafka";
+            }
+            if (type.startsWith("employee.")) {
+                return "application";
+            }
+        }
+        return "other";
+    }
+
+}
@@ -0,0 +1,34 @@
+package employee.service.employee;
+
+import employee.repository.entities.EmployeeEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Evicts this instance's second-level cache entries of employees
+ * changed by another instance, on employee-evict-employees events.
+ */
+@Component
+public class EmployeeEntityCache {
+
+    private final Cache cache;
+
+    @Autowired
+    public EmployeeEntityCache(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    /**
+     * @param employeeIds employees, uncached ones are skipped
+     */
+    public void evict(Collection<UUID> employeeIds) {
+        employeeIds.forEach(employeeId -> cache.evictEntityData(EmployeeEntity.class, employeeId));
+    }
+
+}
@@ -2,18 +2,31 @@ package employee.service.employee.contracts;
 
 import employee.repository.entities.EmployeeEntity;
 import employee.web.dto.request.EmployeeRequest;
+import employee.web.dto.response.CursorPage;
+import employee.web.dto.response.EmployeeBatchResponse;
+import employee.web.dto.response.EmployeeImportResponse;
 import employee.web.dto.response.contracts.Employee;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
 import java.util.UUID;
 
 public interface EmployeeService {
     EmployeeEntity createEmployee(EmployeeRequest request);
+    EmployeeImportResponse importEmployees(Iterator<EmployeeRequest> requests);
     Employee readEmployee(UUID id, Boolean extraInfo);
+    EmployeeBatchResponse readEmployees(List<UUID> ids);
 
     EmployeeEntity updateEmployee(UUID id, EmployeeRequest request);
     EmployeeEntity deleteEmployee(UUID id);
 
     Page<? extends Employee> getAllEmployees(Pageable pageable, Boolean extraInfo);
+    CursorPage<? extends Employee> getEmployeesAfter(String cursor, int size, Boolean extraInfo, boolean withTotal);
+    CursorPage<? extends Employee> getCompanyEmployees(UUID companyId, String cursor, int size, Boolean extraInfo, boolean withTotal);
+
+    long exportEmployees(OutputStream out) throws IOException;
 }
@@ -0,0 +1,13 @@
+package employee.service.employee.contracts;
+
+import employee.web.dto.response.contracts.Employee;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveEmployeeService {
+    Mono<Employee> readEmployee(UUID id, boolean extraInfo);
+    Mono<Page<? extends Employee>> getAllEmployees(Pageable pageable, boolean extraInfo);
+}
@@ -1,48 +1,95 @@
 package employee.service.employee.implementations;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import employee.repository.EmployeeRepository;
 import employee.repository.entities.EmployeeEntity;
-import employee.service.company.CompanyClient;
+import employee.service.company.CompanyCache;
+import employee.service.configurations.EmployeeImportConfiguration;
 import employee.service.employee.contracts.EmployeeService;
 import employee.service.kafka.KafkaProducerService;
+import employee.service.logging.Payloads;
 import employee.service.messages.employee.AddEmployeeEvent;
+import employee.service.messages.employee.AddEmployeesEvent;
+import employee.service.messages.employee.EmployeeSummary;
+import employee.service.messages.employee.EmployeesChangedEvent;
+import employee.service.messages.employee.EvictEmployeesEvent;
 import employee.service.messages.employee.RemoveEmployeeEvent;
+import employee.service.pagination.KeysetCursor;
+import employee.web.controllers.exceptions.InvalidCursorException;
 import employee.web.controllers.exceptions.EmployeeNotFoundException;
 import employee.web.dto.request.EmployeeRequest;
 import employee.web.dto.response.CompanyResponse;
+import employee.web.dto.response.CursorPage;
+import employee.web.dto.response.EmployeeBatchResponse;
 import employee.web.dto.response.EmployeeFullResponse;
+import employee.web.dto.response.EmployeeImportResponse;
+import employee.web.dto.response.EmployeeImportRow;
 import employee.web.dto.response.EmployeeResponse;
 import employee.web.dto.response.contracts.Employee;
 import employee.web.dto.response.mappers.EmployeeMapper;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.ToIntBiFunction;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @Transactional
+@Timed(value = "employee.service", histogram = true)
 public class EmployeeServiceImpl implements EmployeeService {
 
     private final EmployeeRepository employeeRepository;
-    private final CompanyClient companyClient;
+    private final CompanyCache companyCache;
     private final KafkaProducerService kafkaProducerService;
 
     private final EmployeeMapper employeeMapper;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final MeterRegistry meterRegistry;
+
+    private static final int MAX_KEYSET_PAGE_SIZE = 1000;
+    private static final int MAX_UPDATE_IDS = 1000;
+    private final int IMPORT_BATCH_SIZE;
 
     @Autowired
-    public EmployeeServiceImpl(EmployeeRepository employeeRepository, KafkaProducerService kafkaProducerService, CompanyClient companyClient, EmployeeMapper employeeMapper) {
+    public EmployeeServiceImpl(EmployeeRepository employeeRepository, KafkaProducerService kafkaProducerService, CompanyCache companyCache, EmployeeMapper employeeMapper, EntityManager entityManager, ObjectMapper objectMapper, Validator validator, EmployeeImportConfiguration importConfiguration, MeterRegistry meterRegistry) {
         this.employeeRepository = employeeRepository;
-        this.companyClient = companyClient;
+        this.companyCache = companyCache;
         this.kafkaProducerService = kafkaProducerService;
         this.employeeMapper = employeeMapper;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.meterRegistry = meterRegistry;
+        this.IMPORT_BATCH_SIZE = importConfiguration.getBatchSize();
     }
 
     @Transactional
@@ -58,9 +105,69 @@ public class EmployeeServiceImpl implements EmployeeService {
                 log.info("Company: " + request.getCompanyId() + " for employee: " + id + " does not exist");
             }
         }
-        EmployeeEntity employee = employeeMapper.toEntity(id, request);
-        log.info("Returning saved employee: {}", employee);
-        return employeeRepository.saveAndFlush(employee);
+        EmployeeEntity employee = employeeRepository.saveAndFlush(employeeMapper.toEntity(id, request));
+        sendEmployeesChanged(List.of(employee), false);
+        log.info("Returning saved employee: {}", Payloads.summary(employee));
+        return employee;
+    }
+
+    /**
+     * Imports all employees in one transaction: rows are validated one by one,
+     * valid ones are inserted in JDBC batches and announced per company
+     * @param requests employees, consumed lazily
+     * @return per row report in requests order
+     */
+    @Override
+    @Transactional
+    public EmployeeImportResponse importEmployees(Iterator<EmployeeRequest> requests) {
+
+        List<EmployeeImportRow> rows = new ArrayList<>();
+        List<EmployeeEntity> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+        Map<UUID, List<UUID>> companyEmployees = new LinkedHashMap<>();
+        int created = 0;
+
+        for (int index = 0; requests.hasNext(); index++) {
+            EmployeeRequest request = requests.next();
+
+            List<String> errors = request == null
+                    ? List.of("Employee is required")
+                    : validator.validate(request).stream().map(ConstraintViolation::getMessage).toList();
+            if (!errors.isEmpty()) {
+                rows.add(new EmployeeImportRow(index, null, errors));
+                continue;
+            }
+
+            UUID id = UUID.randomUUID();
+            batch.add(employeeMapper.toEntity(id, request));
+            rows.add(new EmployeeImportRow(index, id, List.of()));
+            if (request.getCompanyId() != null) {
+                companyEmployees.computeIfAbsent(request.getCompanyId(), companyId -> new ArrayList<>()).add(id);
+            }
+
+            if (batch.size() == IMPORT_BATCH_SIZE) {
+                employeeRepository.insertAll(batch);
+                sendEmployeesChanged(batch, false);
+                created += batch.size();
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            employeeRepository.insertAll(batch);
+            sendEmployeesChanged(batch, false);
+            created += batch.size();
+        }
+
+        // company updates: one event per company and IMPORT_BATCH_SIZE employees
+        companyEmployees.forEach((companyId, ids) -> {
+            for (int from = 0; from < ids.size(); from += IMPORT_BATCH_SIZE) {
+                List<UUID> chunk = List.copyOf(ids.subList(from, Math.min(from + IMPORT_BATCH_SIZE, ids.size())));
+                kafkaProducerService.sendAddEmployees(new AddEmployeesEvent(companyId, chunk));
+            }
+        });
+
+        EmployeeImportResponse response = new EmployeeImportResponse(created, rows.size() - created, rows);
+        log.info("Returning imported employees: created - {}; rejected - {}; companies - {}.", created, rows.size() - created, companyEmployees.size());
+        return response;
     }
 
     @Override
@@ -73,45 +180,67 @@ public class EmployeeServiceImpl implements EmployeeService {
 
             // company service data request by id
             try {
-                CompanyResponse company = companyClient.getCompany(entity.getCompanyId());
+                CompanyResponse company = companyCache.getCompany(entity.getCompanyId());
 
                 EmployeeFullResponse fullResponse = employeeMapper.toFullResponse(entity, company);
-                log.info("Returning read employee: {}", fullResponse);
+                log.info("Returning read employee: {}", Payloads.summary(fullResponse));
                 return fullResponse;
 
             } catch (Exception e) {
                 EmployeeFullResponse fullResponse = employeeMapper.toFullResponse(entity, null);
-                log.info("Returning read employee: {}", fullResponse);
+                log.info("Returning read employee: {}", Payloads.summary(fullResponse));
                 return fullResponse;
             }
         }
 
         EmployeeResponse response = employeeMapper.toResponse(entity);
-        log.info("Returning read employee: {}", response);
+        log.info("Returning read employee: {}", Payloads.summary(response));
+        return response;
+    }
+
+    @Override
+    public EmployeeBatchResponse readEmployees(List<UUID> ids) {
+
+        // request duplicates are resolved once
+        Set<UUID> requested = new LinkedHashSet<>(ids);
+        List<EmployeeEntity> entities = employeeRepository.findAllById(requested);
+
+        List<EmployeeResponse> employees = new ArrayList<>(entities.size());
+        for (EmployeeEntity entity : entities) {
+            requested.remove(entity.getId());
+            employees.add(employeeMapper.toResponse(entity));
+        }
+
+        EmployeeBatchResponse response = new EmployeeBatchResponse(employees, new ArrayList<>(requested));
+        log.info("Returning batch of employees: found - {}; missing - {}.", employees.size(), requested.size());
         return response;
     }
 
     @Transactional
     public EmployeeEntity updateEmployee(UUID id, EmployeeRequest request) {
 
-        EmployeeEntity result = findEmployeeOrThrow(id);
+        EmployeeEntity employee = findEmployeeOrThrow(id);
 
         // request idempotency check
-        if (request.getCompanyId() != null && !request.getCompanyId().equals(result.getCompanyId())) {
-            if (result.getCompanyId() != null) {
+        if (request.getCompanyId() != null && !request.getCompanyId().equals(employee.getCompanyId())) {
+            if (employee.getCompanyId() != null) {
                 kafkaProducerService.sendRemoveEmployee(new RemoveEmployeeEvent(request.getCompanyId(), id));
             }
             kafkaProducerService.sendAddEmployee(new AddEmployeeEvent(request.getCompanyId(), id));
         }
 
-        EmployeeEntity employee = findEmployeeOrThrow(id);
         employee.setFirstName(request.getFirstName());
         employee.setLastName(request.getLastName());
         employee.setPhone(request.getPhone());
         employee.setCompanyId(request.getCompanyId());
 
-        log.info("Returning updated employee: {}", employee);
-        return employeeRepository.saveAndFlush(employee);
+        // flushed first: the event carries the incremented version
+        EmployeeEntity updated = employeeRepository.saveAndFlush(employee);
+        sendEmployeesChanged(List.of(updated), false);
+        kafkaProducerService.sendEvictEmployees(new EvictEmployeesEvent(List.of(id)));
+
+        log.info("Returning updated employee: {}", Payloads.summary(updated));
+        return updated;
     }
 
     @Transactional
@@ -124,55 +253,220 @@ public class EmployeeServiceImpl implements EmployeeService {
             kafkaProducerService.sendRemoveEmployee(new RemoveEmployeeEvent(result.getCompanyId(), id));
         }
 
+        sendEmployeesChanged(List.of(result), true);
+        kafkaProducerService.sendEvictEmployees(new EvictEmployeesEvent(List.of(id)));
         employeeRepository.deleteById(id);
         employeeRepository.flush();
-        log.info("Returning deleted employee: {}", result);
+        log.info("Returning deleted employee: {}", Payloads.summary(result));
         return result;
     }
 
+    /**
+     * Applies company assignments with one bulk update per target company
+     * @param assignments companyId by employeeId, null clears the company
+     * @return updated employees, unknown employees are skipped
+     */
     @Transactional
-    public void changeCompany(UUID employeeId, UUID companyId) {
-        EmployeeEntity employee = findEmployeeOrThrow(employeeId);
-        employee.setCompanyId(companyId);
-        employeeRepository.saveAndFlush(employee);
+    public int assignCompanies(Map<UUID, UUID> assignments) {
+        return updateByCompany(assignments, employeeRepository::updateCompanyId);
     }
 
+    /**
+     * Clears companies the employees left, with one bulk update per company
+     * @param departures left companyId by employeeId
+     * @return cleared employees, employees already assigned to another company are skipped
+     */
     @Transactional
-    public void clearCompany(UUID employeeId) {
-        EmployeeEntity employee = findEmployeeOrThrow(employeeId);
-        employee.setCompanyId(null);
-        employeeRepository.saveAndFlush(employee);
+    public int clearCompanies(Map<UUID, UUID> departures) {
+        return updateByCompany(departures, employeeRepository::clearCompanyId);
+    }
+
+    /**
+     * Utility method
+     * Groups employees by company and runs the bulk update per company, MAX_UPDATE_IDS at a time
+     * @param companies companyId by employeeId
+     * @param update bulk update of a company and its employees, returning updated rows
+     * @return updated employees
+     */
+    private int updateByCompany(Map<UUID, UUID> companies, ToIntBiFunction<UUID, List<UUID>> update) {
+
+        Map<UUID, List<UUID>> companyEmployees = new HashMap<>();
+        companies.forEach((employeeId, companyId) ->
+                companyEmployees.computeIfAbsent(companyId, id -> new ArrayList<>()).add(employeeId)
+        );
+
+        int updated = 0;
+        for (Map.Entry<UUID, List<UUID>> entry : companyEmployees.entrySet()) {
+            List<UUID> ids = entry.getValue();
+            for (int from = 0; from < ids.size(); from += MAX_UPDATE_IDS) {
+                List<UUID> chunk = List.copyOf(ids.subList(from, Math.min(from + MAX_UPDATE_IDS, ids.size())));
+                updated += update.applyAsInt(entry.getKey(), chunk);
+
+                // bulk updates evict the local region only
+                kafkaProducerService.sendEvictEmployees(new EvictEmployeesEvent(chunk));
+            }
+        }
+        return updated;
     }
 
     @Override
     public Page<? extends Employee> getAllEmployees(Pageable pageable, Boolean extraInfo) {
 
         Page<EmployeeEntity> page = employeeRepository.findAll(pageable);
+        meterRegistry.summary("employee.page.size", "pagination", "offset").record(page.getNumberOfElements());
 
         // extraInfo - company data
         if (extraInfo) {
-
-            List<EmployeeFullResponse> responses = new ArrayList<>();
-
-            // company service data request by id
-            for (EmployeeEntity employee : page) {
-                try {
-                    CompanyResponse company = companyClient.getCompany(employee.getCompanyId());
-                    responses.add(employeeMapper.toFullResponse(employee, company));
-                } catch (Exception e) {
-                    responses.add(employeeMapper.toFullResponse(employee, null));
-                }
-            }
+            List<EmployeeFullResponse> responses = toFullResponses(page.getContent());
             Page<? extends Employee> pageResponse = new PageImpl<>(responses, pageable, page.getTotalElements());
-            log.info("Returning all employees: {}", pageResponse);
+            log.info("Returning all employees: {}", Payloads.summary(pageResponse));
             return pageResponse;
         }
 
         Page<? extends Employee> pageResponse = page.map(employeeMapper::toResponse);
-        log.info("Returning all employees: {}", pageResponse);
+        log.info("Returning all employees: {}", Payloads.summary(pageResponse));
         return pageResponse;
     }
 
+    @Override
+    public CursorPage<? extends Employee> getEmployeesAfter(String cursor, int size, Boolean extraInfo, boolean withTotal) {
+
+        // one extra row tells whether a next page exists
+        int limit = Math.max(1, Math.min(size, MAX_KEYSET_PAGE_SIZE));
+        Pageable window = PageRequest.of(0, limit + 1);
+
+        List<EmployeeEntity> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = employeeRepository.findFirstKeysetPage(window);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = employeeRepository.findKeysetPageAfter(after.getKey(), after.getId(), window);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            EmployeeEntity last = rows.get(limit - 1);
+            nextCursor = new KeysetCursor(last.getLastName(), last.getId()).encode();
+        }
+
+        meterRegistry.summary("employee.page.size", "pagination", "keyset").record(rows.size());
+        Long total = withTotal ? employeeRepository.count() : null;
+
+        List<? extends Employee> content = extraInfo
+                ? toFullResponses(rows)
+                : rows.stream().map(employeeMapper::toResponse).toList();
+
+        CursorPage<? extends Employee> response = new CursorPage<>(content, nextCursor, total);
+        log.info("Returning employees after cursor: {}", Payloads.summary(response));
+        return response;
+    }
+
+    @Override
+    public CursorPage<? extends Employee> getCompanyEmployees(UUID companyId, String cursor, int size, Boolean extraInfo, boolean withTotal) {
+
+        // one extra row tells whether a next page exists
+        int limit = Math.max(1, Math.min(size, MAX_KEYSET_PAGE_SIZE));
+        Pageable window = PageRequest.of(0, limit + 1);
+
+        List<EmployeeEntity> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = employeeRepository.findFirstCompanyPage(companyId, window);
+        } else {
+            // cursor key is the company it was issued for
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            if (!companyId.toString().equals(after.getKey())) {
+                throw new InvalidCursorException(cursor);
+            }
+            rows = employeeRepository.findCompanyPageAfter(companyId, after.getId(), window);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            nextCursor = new KeysetCursor(companyId.toString(), rows.get(limit - 1).getId()).encode();
+        }
+
+        meterRegistry.summary("employee.page.size", "pagination", "company").record(rows.size());
+        Long total = withTotal ? employeeRepository.countByCompanyId(companyId) : null;
+
+        List<? extends Employee> content = extraInfo
+                ? toFullResponses(rows)
+                : rows.stream().map(employeeMapper::toResponse).toList();
+
+        CursorPage<? extends Employee> response = new CursorPage<>(content, nextCursor, total);
+        log.info("Returning company employees: {}, {}", companyId, Payloads.summary(response));
+        return response;
+    }
+
+    @Override
+    public long exportEmployees(OutputStream out) throws IOException {
+
+        ObjectWriter writer = objectMapper.writerFor(EmployeeResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+        long count = 0;
+
+        // one row in memory at a time: written, then detached
+        try (Stream<EmployeeEntity> employees = employeeRepository.streamAll();
+             JsonGenerator generator = writer.createGenerator(out)) {
+
+            Iterator<EmployeeEntity> iterator = employees.iterator();
+            while (iterator.hasNext()) {
+                EmployeeEntity employee = iterator.next();
+                writer.writeValue(generator, employeeMapper.toResponse(employee));
+                entityManager.detach(employee);
+                count++;
+            }
+            if (count > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+
+        log.info("Exported employees: {}", count);
+        return count;
+    }
+
+    /**
+     * Utility method
+     * Maps employees with their companies, requesting each distinct company missing in cache once
+     * @param employees employees
+     * @return full responses in employees order
+     */
+    private List<EmployeeFullResponse> toFullResponses(List<EmployeeEntity> employees) {
+
+        Set<UUID> companyIds = new LinkedHashSet<>();
+        employees.forEach(employee -> companyIds.add(employee.getCompanyId()));
+        Map<UUID, CompanyResponse> companies = companyCache.getCompanies(companyIds);
+        meterRegistry.summary("employee.extra-info.companies").record(companyIds.size());
+
+        List<EmployeeFullResponse> responses = new ArrayList<>(employees.size());
+        for (EmployeeEntity employee : employees) {
+            responses.add(employeeMapper.toFullResponse(employee, companies.get(employee.getCompanyId())));
+        }
+        return responses;
+    }
+
+    /**
+     * Utility method
+     * Announces employee summaries to the company-service read model,
+     * versioned with the flushed row version; a deletion is one version past the last change
+     * @param employees changed employees
+     * @param deleted whether employees were deleted
+     */
+    private void sendEmployeesChanged(List<EmployeeEntity> employees, boolean deleted) {
+        List<EmployeeSummary> summaries = employees.stream()
+                .map(employee -> {
+                    // rows inserted with JDBC start at version 0
+                    long version = employee.getVersion() == null ? 0 : employee.getVersion();
+                    return deleted
+                            ? new EmployeeSummary(employee.getId(), null, null, null, true, version + 1)
+                            : new EmployeeSummary(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getPhone(), false, version);
+                })
+                .toList();
+        kafkaProducerService.sendEmployeesChanged(new EmployeesChangedEvent(Instant.now(), summaries));
+    }
+
     /**
      * Utility method
      * Finds EmployeeEntity or throws EmployeeNotFoundException
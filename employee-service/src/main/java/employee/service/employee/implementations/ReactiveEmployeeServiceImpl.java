@@ -0,0 +1,90 @@
+package employee.service.employee.implementations;
+
+import employee.repository.entities.EmployeeEntity;
+import employee.repository.reactive.ReactiveEmployeeRepository;
+import employee.service.company.CompanyCache;
+import employee.service.employee.contracts.ReactiveEmployeeService;
+import employee.service.logging.Payloads;
+import employee.web.controllers.exceptions.EmployeeNotFoundException;
+import employee.web.dto.response.contracts.Employee;
+import employee.web.dto.response.mappers.EmployeeMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Read path of the reactive profile: R2DBC rows and cached companies composed without blocking.
+ * Unavailable companies degrade to responses without company, like the blocking path.
+ */
+@Slf4j
+@Service
+@Profile("reactive")
+public class ReactiveEmployeeServiceImpl implements ReactiveEmployeeService {
+
+    private final ReactiveEmployeeRepository employeeRepository;
+    private final CompanyCache companyCache;
+    private final EmployeeMapper employeeMapper;
+
+    @Autowired
+    public ReactiveEmployeeServiceImpl(ReactiveEmployeeRepository employeeRepository, CompanyCache companyCache, EmployeeMapper employeeMapper) {
+        this.employeeRepository = employeeRepository;
+        this.companyCache = companyCache;
+        this.employeeMapper = employeeMapper;
+    }
+
+    @Override
+    public Mono<Employee> readEmployee(UUID id, boolean extraInfo) {
+
+        Mono<EmployeeEntity> employee = employeeRepository.findById(id)
+                .map(employeeMapper::toEntity)
+                .switchIfEmpty(Mono.error(() -> new EmployeeNotFoundException(id)));
+
+        // extraInfo - company data
+        Mono<Employee> response = extraInfo
+                ? employee.flatMap(entity -> companyCache.fetchCompany(entity.getCompanyId())
+                        .onErrorResume(e -> Mono.empty())
+                        .<Employee>map(company -> employeeMapper.toFullResponse(entity, company))
+                        .defaultIfEmpty(employeeMapper.toFullResponse(entity, null)))
+                : employee.<Employee>map(employeeMapper::toResponse);
+
+        return response.doOnNext(result -> log.info("Returning read employee: {}", Payloads.summary(result)));
+    }
+
+    @Override
+    public Mono<Page<? extends Employee>> getAllEmployees(Pageable pageable, boolean extraInfo) {
+
+        Mono<List<EmployeeEntity>> rows = employeeRepository.findAllBy(pageable)
+                .map(employeeMapper::toEntity)
+                .collectList();
+
+        return Mono.zip(rows, employeeRepository.count()).flatMap(page -> {
+            List<EmployeeEntity> employees = page.getT1();
+            long total = page.getT2();
+
+            if (!extraInfo) {
+                return Mono.<Page<? extends Employee>>just(new PageImpl<>(employees.stream().map(employeeMapper::toResponse).toList(), pageable, total));
+            }
+
+            // each distinct company resolved once, from cache or one concurrent fan-out
+            Set<UUID> companyIds = new LinkedHashSet<>();
+            employees.forEach(employee -> companyIds.add(employee.getCompanyId()));
+            return companyCache.fetchCompanies(companyIds)
+                    .onErrorReturn(Map.of())
+                    .<Page<? extends Employee>>map(companies -> new PageImpl<>(employees.stream()
+                            .map(employee -> employeeMapper.toFullResponse(employee, companies.get(employee.getCompanyId())))
+                            .toList(), pageable, total));
+        }).doOnNext(result -> log.info("Returning all employees: {}", Payloads.summary(result)));
+    }
+
+}
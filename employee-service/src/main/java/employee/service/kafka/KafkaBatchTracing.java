@@ -0,0 +1,62 @@
+package employee.service.kafka;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Continues producer traces into batch listeners, which the listener container does not observe.
+ * One span per poll, child of the first record's trace; the other records' traces are counted, not linked.
+ */
+@Component
+public class KafkaBatchTracing {
+
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    @Autowired
+    public KafkaBatchTracing(Tracer tracer, Propagator propagator) {
+        this.tracer = tracer;
+        this.propagator = propagator;
+    }
+
+    /**
+     * @param topic consumed topic
+     * @param headers converted headers of the batch records, may be null
+     * @param handler listener body
+     */
+    public void inSpan(String topic, List<Map<String, Object>> headers, Runnable handler) {
+        Map<String, Object> first = headers == null || headers.isEmpty() ? Map.of() : headers.get(0);
+        Span span = propagator.extract(first, KafkaBatchTracing::header)
+                .name(topic + " receive")
+                .kind(Span.Kind.CONSUMER)
+                .tag("messaging.system", "kafka")
+                .tag("messaging.destination.name", topic)
+                .tag("messaging.batch.message_count", String.valueOf(headers == null ? 0 : headers.size()))
+                .start();
+        try (Tracer.SpanInScope scope = tracer.withSpan(span)) {
+            handler.run();
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    // unmapped header values stay raw bytes
+    private static String header(Map<String, Object> headers, String name) {
+        Object value = headers.get(name);
+        if (value instanceof byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value == null ? null : value.toString();
+    }
+
+}
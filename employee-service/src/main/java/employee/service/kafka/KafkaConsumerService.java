@@ -1,33 +1,124 @@
 package employee.service.kafka;
 
+import employee.service.company.CompanyCache;
+import employee.service.employee.EmployeeEntityCache;
 import employee.service.employee.implementations.EmployeeServiceImpl;
-import employee.service.messages.company.ChangeCompanyEvent;
-import employee.service.messages.company.ClearCompanyEvent;
+import employee.service.messages.company.BatchChangeCompanyEvent;
+import employee.service.messages.company.BatchClearCompanyEvent;
+import employee.service.messages.company.EvictCompanyEvent;
+import employee.service.messages.employee.EvictEmployeesEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.ToIntFunction;
+
 @Slf4j
 @Service
 public class KafkaConsumerService {
     private final EmployeeServiceImpl employeeServiceImpl;
+    private final CompanyCache companyCache;
+    private final EmployeeEntityCache employeeEntityCache;
+    private final MeterRegistry meterRegistry;
+    private final KafkaBatchTracing kafkaBatchTracing;
 
     @Autowired
-    public KafkaConsumerService(EmployeeServiceImpl employeeServiceImpl) {
+    public KafkaConsumerService(EmployeeServiceImpl employeeServiceImpl, CompanyCache companyCache, EmployeeEntityCache employeeEntityCache, MeterRegistry meterRegistry, KafkaBatchTracing kafkaBatchTracing) {
         this.employeeServiceImpl = employeeServiceImpl;
+        this.companyCache = companyCache;
+        this.employeeEntityCache = employeeEntityCache;
+        this.meterRegistry = meterRegistry;
+        this.kafkaBatchTracing = kafkaBatchTracing;
+    }
+
+    // company-service membership diffs, coalesced together with the whole poll
+    @KafkaListener(topics = "employee-batch-change-company", groupId = "employee-service", containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleBatchChange(List<BatchChangeCompanyEvent> events,
+                                  @Header(name = KafkaHeaders.BATCH_CONVERTED_HEADERS, required = false) List<Map<String, Object>> headers) {
+        timed("employee-batch-change-company", headers, () -> {
+            Map<UUID, UUID> assignments = new LinkedHashMap<>();
+            int received = 0;
+            for (BatchChangeCompanyEvent event : events) {
+                event.getEmployeeIds().forEach(employeeId -> assignments.put(employeeId, event.getCompanyId()));
+                received += event.getEmployeeIds().size();
+            }
+            applyAssignments("employee-batch-change-company", received, assignments);
+        });
+    }
+
+    // only employees still in the company they left are cleared, the change to their next company may come first
+    @KafkaListener(topics = "employee-batch-clear-company", groupId = "employee-service", containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleBatchClear(List<BatchClearCompanyEvent> events,
+                                 @Header(name = KafkaHeaders.BATCH_CONVERTED_HEADERS, required = false) List<Map<String, Object>> headers) {
+        timed("employee-batch-clear-company", headers, () -> {
+            Map<UUID, UUID> departures = new LinkedHashMap<>();
+            int received = 0;
+            for (BatchClearCompanyEvent event : events) {
+                event.getEmployeeIds().forEach(employeeId -> departures.put(employeeId, event.getCompanyId()));
+                received += event.getEmployeeIds().size();
+            }
+            applyAssignments("employee-batch-clear-company", received, departures, employeeServiceImpl::clearCompanies);
+        });
+    }
+
+    // every instance evicts its own cache: unique group, no replay of old events
+    @KafkaListener(topics = "employee-evict-company", groupId = "employee-service-cache-${random.uuid}", properties = "auto.offset.reset=latest")
+    public void handleEvict(EvictCompanyEvent event) {
+        timed("employee-evict-company", () -> companyCache.evict(event.getCompanyId()));
+        log.info("Consumed employee-evict-company event with parameters: companyId - {}.", event.getCompanyId());
+    }
+
+    @KafkaListener(topics = "employee-evict-employees", groupId = "employee-service-cache-${random.uuid}", properties = "auto.offset.reset=latest")
+    public void handleEvictEmployees(EvictEmployeesEvent event) {
+        timed("employee-evict-employees", () -> employeeEntityCache.evict(event.getEmployeeIds()));
+        log.info("Consumed employee-evict-employees event with parameters: employees - {}.", event.getEmployeeIds().size());
+    }
+
+    private void applyAssignments(String topic, int received, Map<UUID, UUID> assignments) {
+        applyAssignments(topic, received, assignments, employeeServiceImpl::assignCompanies);
+    }
+
+    private void applyAssignments(String topic, int received, Map<UUID, UUID> assignments, ToIntFunction<Map<UUID, UUID>> apply) {
+        // timed with the whole listener invocation by employee.events.duration
+        int updated = apply.applyAsInt(assignments);
+
+        meterRegistry.summary("employee.events.batch.size", "topic", topic).record(received);
+        meterRegistry.counter("employee.events.consumed", "topic", topic).increment(received);
+        meterRegistry.counter("employee.events.coalesced", "topic", topic).increment(received - assignments.size());
+        meterRegistry.counter("employee.events.updated", "topic", topic).increment(updated);
+
+        log.info("Consumed {} batch with parameters: events - {}; employees - {}; updated - {}.", topic, received, assignments.size(), updated);
     }
 
-    @KafkaListener(topics = "employee-change-company", groupId = "employee-service")
-    public void handleChange(ChangeCompanyEvent event) {
-        employeeServiceImpl.changeCompany(event.getEmployeeId(), event.getCompanyId());
-        log.info("Consumed employee-change-company event with parameters: employeeId - {}; companyId - {}.", event.getEmployeeId(), event.getCompanyId());
+    /**
+     * Utility method
+     * Processing time of one listener invocation, transaction commit included, tagged by topic and outcome
+     * @param topic consumed topic
+     * @param handler listener body
+     */
+    private void timed(String topic, Runnable handler) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            handler.run();
+            outcome = "success";
+        } finally {
+            sample.stop(meterRegistry.timer("employee.events.duration", "topic", topic, "outcome", outcome));
+        }
     }
 
-    @KafkaListener(topics = "employee-clear-company", groupId = "employee-service")
-    public void handleClear(ClearCompanyEvent event) {
-        employeeServiceImpl.clearCompany(event.getEmployeeId());
-        log.info("Consumed employee-clear-company event with parameters: employeeId - {}.", event.getEmployeeId());
+    // batch listeners run in a span continuing the producer trace
+    private void timed(String topic, List<Map<String, Object>> headers, Runnable handler) {
+        timed(topic, () -> kafkaBatchTracing.inSpan(topic, headers, handler));
     }
 
 }
@@ -1,27 +1,69 @@
 package employee.service.kafka;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import employee.repository.OutboxRepository;
+import employee.repository.entities.OutboxEntity;
 import employee.service.messages.employee.AddEmployeeEvent;
+import employee.service.messages.employee.AddEmployeesEvent;
+import employee.service.messages.employee.EmployeesChangedEvent;
+import employee.service.messages.employee.EvictEmployeesEvent;
 import employee.service.messages.employee.RemoveEmployeeEvent;
+import employee.service.outbox.OutboxTraceContext;
+import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+
+/**
+ * Events are written to the outbox in the caller's transaction
+ * and published by OutboxRelay once it commits.
+ */
 @Service
+@Transactional(Transactional.TxType.MANDATORY)
 public class KafkaProducerService {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final OutboxTraceContext outboxTraceContext;
 
     @Autowired
-    public KafkaProducerService(KafkaTemplate<String, Object> kafkaTemplate) {
-        this.kafkaTemplate = kafkaTemplate;
+    public KafkaProducerService(OutboxRepository outboxRepository, ObjectMapper objectMapper, OutboxTraceContext outboxTraceContext) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.outboxTraceContext = outboxTraceContext;
     }
 
     public void sendAddEmployee(AddEmployeeEvent event) {
-        kafkaTemplate.send("company-add-employee", event);
+        publish("company-add-employee", event.getEmployeeId().toString(), event);
     }
 
     public void sendRemoveEmployee(RemoveEmployeeEvent event) {
-        kafkaTemplate.send("company-remove-employee", event);
+        publish("company-remove-employee", event.getEmployeeId().toString(), event);
+    }
+
+    public void sendAddEmployees(AddEmployeesEvent event) {
+        publish("company-add-employees", event.getCompanyId().toString(), event);
+    }
+
+    // keyed by the first employee: single employee changes stay ordered
+    public void sendEmployeesChanged(EmployeesChangedEvent event) {
+        publish("company-employees-changed", event.getEmployees().get(0).getId().toString(), event);
+    }
+
+    // second-level cache of the other employee-service instances
+    public void sendEvictEmployees(EvictEmployeesEvent event) {
+        publish("employee-evict-employees", event.getEmployeeIds().get(0).toString(), event);
+    }
+
+    private void publish(String topic, String key, Object event) {
+        try {
+            outboxRepository.save(new OutboxEntity(null, topic, key, event.getClass().getName(),
+                    objectMapper.writeValueAsString(event), Instant.now(), outboxTraceContext.capture()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Event " + event.getClass().getSimpleName() + " cannot be serialized", e);
+        }
     }
 
 }
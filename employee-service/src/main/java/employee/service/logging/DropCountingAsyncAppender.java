@@ -0,0 +1,32 @@
+package employee.service.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Non-blocking AsyncAppender that counts the events it drops, read by LoggingMetrics.
+ */
+public class DropCountingAsyncAppender extends AsyncAppender {
+
+    private static final LongAdder DROPPED = new LongAdder();
+
+    /**
+     * @return events dropped by all instances since startup
+     */
+    public static long getDropped() {
+        return DROPPED.sum();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        int remaining = getRemainingCapacity();
+        if ((remaining < getDiscardingThreshold() && isDiscardable(event)) || (isNeverBlock() && remaining == 0)) {
+            DROPPED.increment();
+            return;
+        }
+        super.append(event);
+    }
+
+}
@@ -0,0 +1,36 @@
+package employee.service.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes log events dropped by the async appender as logging.events.dropped
+ * and reports new drops once a minute, at WARN so they survive sampling and discarding.
+ */
+@Slf4j
+@Component
+public class LoggingMetrics {
+
+    private long reported;
+
+    @Autowired
+    public LoggingMetrics(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("logging.events.dropped", DropCountingAsyncAppender.class, appender -> DropCountingAsyncAppender.getDropped())
+                .description("Log events dropped by the async appender")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void reportDropped() {
+        long dropped = DropCountingAsyncAppender.getDropped();
+        if (dropped > reported) {
+            log.warn("Async log appender dropped {} events in the last minute, {} in total", dropped - reported, dropped);
+            reported = dropped;
+        }
+    }
+
+}
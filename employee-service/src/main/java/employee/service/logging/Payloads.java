@@ -0,0 +1,99 @@
+package employee.service.logging;
+
+import employee.repository.entities.EmployeeEntity;
+import employee.web.dto.request.EmployeeRequest;
+import employee.web.dto.response.CompanyResponse;
+import employee.web.dto.response.CursorPage;
+import employee.web.dto.response.EmployeeFullResponse;
+import employee.web.dto.response.EmployeeResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Log arguments for request and response payloads: a size-bounded summary without names and phones,
+ * or the full payload when the employee.payloads logger is at DEBUG.
+ */
+public final class Payloads {
+
+    private static final Logger FULL_PAYLOADS = LoggerFactory.getLogger("employee.payloads");
+
+    private static final int MAX_IDS = 5;
+    private static final int MAX_LENGTH = 256;
+
+    private Payloads() {
+    }
+
+    /**
+     * @param payload request or response, may be null
+     * @return log argument rendering the payload summary
+     */
+    public static Object summary(Object payload) {
+        return new Summary(payload);
+    }
+
+    private record Summary(Object payload) {
+
+        @Override
+        public String toString() {
+            return FULL_PAYLOADS.isDebugEnabled() ? String.valueOf(payload) : summarize(payload);
+        }
+
+    }
+
+    private static String summarize(Object payload) {
+        return switch (payload) {
+            case null -> "null";
+            case Page<?> page -> String.format("Page[number=%d, size=%d, elements=%d, total=%d, ids=%s]",
+                    page.getNumber(), page.getSize(), page.getNumberOfElements(), page.getTotalElements(), ids(page.getContent()));
+            case CursorPage<?> page -> String.format("CursorPage[elements=%d, last=%b, total=%s, ids=%s]",
+                    page.getContent().size(), page.getNextCursor() == null, page.getTotalElements(), ids(page.getContent()));
+            case Collection<?> collection -> String.format("%s[size=%d, ids=%s]",
+                    collection.getClass().getSimpleName(), collection.size(), ids(collection));
+            case EmployeeEntity employee -> String.format("EmployeeEntity[id=%s, companyId=%s]", employee.getId(), employee.getCompanyId());
+            case EmployeeResponse employee -> String.format("EmployeeResponse[id=%s, companyId=%s]", employee.getId(), employee.getCompanyId());
+            case EmployeeFullResponse employee -> String.format("EmployeeFullResponse[id=%s, companyId=%s]",
+                    employee.getId(), employee.getCompany() == null ? null : employee.getCompany().getId());
+            case EmployeeRequest request -> String.format("EmployeeRequest[companyId=%s]", request.getCompanyId());
+            case CompanyResponse company -> String.format("CompanyResponse[id=%s, employees=%d]", company.getId(), size(company.getEmployeesIds()));
+            default -> truncate(payload.toString());
+        };
+    }
+
+    /**
+     * Utility method
+     * @param items payload items
+     * @return ids of the first MAX_IDS items and the count of the rest
+     */
+    private static String ids(Collection<?> items) {
+        List<String> ids = items.stream().limit(MAX_IDS).map(Payloads::id).collect(Collectors.toList());
+        if (items.size() > MAX_IDS) {
+            ids.add("+" + (items.size() - MAX_IDS));
+        }
+        return ids.toString();
+    }
+
+    private static String id(Object item) {
+        return switch (item) {
+            case null -> "null";
+            case EmployeeEntity employee -> String.valueOf(employee.getId());
+            case EmployeeResponse employee -> String.valueOf(employee.getId());
+            case EmployeeFullResponse employee -> String.valueOf(employee.getId());
+            case CompanyResponse company -> String.valueOf(company.getId());
+            default -> truncate(item.toString());
+        };
+    }
+
+    private static int size(Collection<?> items) {
+        return items == null ? 0 : items.size();
+    }
+
+    private static String truncate(String value) {
+        return value.length() <= MAX_LENGTH ? value : value.substring(0, MAX_LENGTH) + "…(" + value.length() + " chars)";
+    }
+
+}
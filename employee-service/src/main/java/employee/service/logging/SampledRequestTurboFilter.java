@@ -0,0 +1,28 @@
+package employee.service.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * Denies INFO and lower lines of this service logged while handling a request that was not sampled
+ * (see RequestLogSamplingInterceptor), before any message is formatted. WARN and ERROR always pass.
+ */
+public class SampledRequestTurboFilter extends TurboFilter {
+
+    public static final String SAMPLED = "log.sampled";
+
+    private static final String LOGGER_PREFIX = "employee.";
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || level.isGreaterOrEqual(Level.WARN) || !logger.getName().startsWith(LOGGER_PREFIX)) {
+            return FilterReply.NEUTRAL;
+        }
+        return "false".equals(MDC.get(SAMPLED)) ? FilterReply.DENY : FilterReply.NEUTRAL;
+    }
+
+}
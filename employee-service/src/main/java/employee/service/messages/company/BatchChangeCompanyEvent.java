@@ -4,11 +4,13 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
 import java.util.UUID;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class ClearCompanyEvent {
-    private UUID employeeId;
+public class BatchChangeCompanyEvent {
+    private UUID companyId;
+    private List<UUID> employeeIds;
 }
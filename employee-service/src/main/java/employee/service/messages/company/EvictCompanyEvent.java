@@ -9,7 +9,6 @@ import java.util.UUID;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class ChangeCompanyEvent {
-    private UUID employeeId;
+public class EvictCompanyEvent {
     private UUID companyId;
 }
@@ -0,0 +1,20 @@
+package employee.service.messages.employee;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeSummary {
+    private UUID id;
+    private String firstName;
+    private String lastName;
+    private String phone;
+    private boolean deleted;
+    // employee row version of this change, older versions are ignored by consumers
+    private long version;
+}
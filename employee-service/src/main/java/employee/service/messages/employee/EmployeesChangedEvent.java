@@ -0,0 +1,17 @@
+package employee.service.messages.employee;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeesChangedEvent {
+    // time of the change, informational: changes are ordered by EmployeeSummary.version
+    private Instant changedAt;
+    private List<EmployeeSummary> employees;
+}
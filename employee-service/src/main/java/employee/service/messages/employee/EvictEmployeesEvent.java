@@ -0,0 +1,15 @@
+package employee.service.messages.employee;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvictEmployeesEvent {
+    private List<UUID> employeeIds;
+}
@@ -0,0 +1,77 @@
+package employee.service.tracing;
+
+import employee.service.configurations.TracingConfiguration;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Span exporter keeping the spans of the most recent traces in memory.
+ * Registered with the OpenTelemetry SDK next to the OTLP exporter; exports nothing unless enabled.
+ */
+@Component
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final boolean ENABLED;
+    private final int MAX_TRACES;
+
+    // trace id -> spans, in order of the first exported span of each trace
+    private final LinkedHashMap<String, List<SpanData>> traces = new LinkedHashMap<>();
+
+    @Autowired
+    public InMemorySpanExporter(TracingConfiguration tracingConfiguration) {
+        ENABLED = tracingConfiguration.isInMemoryEnabled();
+        MAX_TRACES = tracingConfiguration.getInMemoryMaxTraces();
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        if (!ENABLED) {
+            return CompletableResultCode.ofSuccess();
+        }
+        for (SpanData span : spans) {
+            traces.computeIfAbsent(span.getTraceId(), traceId -> new ArrayList<>()).add(span);
+        }
+        while (traces.size() > MAX_TRACES) {
+            traces.pollFirstEntry();
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * @return spans by trace id, oldest trace first
+     */
+    public synchronized Map<String, List<SpanData>> getTraces() {
+        Map<String, List<SpanData>> copy = new LinkedHashMap<>();
+        traces.forEach((traceId, spans) -> copy.put(traceId, List.copyOf(spans)));
+        return copy;
+    }
+
+    /**
+     * @param traceId trace
+     * @return spans of the trace exported by this instance, empty if unknown or already dropped
+     */
+    public synchronized List<SpanData> getTrace(String traceId) {
+        return List.copyOf(traces.getOrDefault(traceId, List.of()));
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        traces.clear();
+        return CompletableResultCode.ofSuccess();
+    }
+
+}
@@ -0,0 +1,73 @@
+package employee.service.tracing;
+
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * /actuator/traces - recent traces kept by InMemorySpanExporter,
+ * /actuator/traces/{traceId} - the spans of one trace as seen by this instance, in start order
+ */
+@Component
+@Endpoint(id = "traces")
+public class TracesEndpoint {
+
+    private final InMemorySpanExporter spanExporter;
+
+    @Autowired
+    public TracesEndpoint(InMemorySpanExporter spanExporter) {
+        this.spanExporter = spanExporter;
+    }
+
+    @ReadOperation
+    public List<Map<String, Object>> traces() {
+        List<Map<String, Object>> traces = new ArrayList<>();
+        spanExporter.getTraces().forEach((traceId, spans) -> {
+            SpanData first = spans.stream().min(Comparator.comparingLong(SpanData::getStartEpochNanos)).orElseThrow();
+            long end = spans.stream().mapToLong(SpanData::getEndEpochNanos).max().orElseThrow();
+
+            Map<String, Object> trace = new LinkedHashMap<>();
+            trace.put("traceId", traceId);
+            trace.put("name", first.getName());
+            trace.put("spans", spans.size());
+            trace.put("durationMs", (end - first.getStartEpochNanos()) / 1e6);
+            traces.add(trace);
+        });
+        return traces.reversed();
+    }
+
+    @ReadOperation
+    public List<Map<String, Object>> trace(@Selector String traceId) {
+        List<SpanData> spans = new ArrayList<>(spanExporter.getTrace(traceId));
+        spans.sort(Comparator.comparingLong(SpanData::getStartEpochNanos));
+        long start = spans.isEmpty() ? 0 : spans.get(0).getStartEpochNanos();
+
+        List<Map<String, Object>> result = new ArrayList<>(spans.size());
+        for (SpanData span : spans) {
+            Map<String, Object> attributes = new LinkedHashMap<>();
+            span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), value));
+
+            Map<String, Object> view = new LinkedHashMap<>();
+            view.put("spanId", span.getSpanId());
+            view.put("parentSpanId", span.getParentSpanId());
+            view.put("name", span.getName());
+            view.put("kind", span.getKind());
+            view.put("offsetMs", (span.getStartEpochNanos() - start) / 1e6);
+            view.put("durationMs", (span.getEndEpochNanos() - span.getStartEpochNanos()) / 1e6);
+            view.put("status", span.getStatus().getStatusCode());
+            view.put("attributes", attributes);
+            result.add(view);
+        }
+        return result;
+    }
+
+}
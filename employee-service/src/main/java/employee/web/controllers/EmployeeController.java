@@ -1,45 +1,75 @@
 package employee.web.controllers;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import employee.repository.entities.EmployeeEntity;
 import employee.service.employee.contracts.EmployeeService;
+import employee.service.logging.Payloads;
+import employee.web.dto.request.EmployeeBatchRequest;
 import employee.web.dto.request.EmployeeRequest;
+import employee.web.dto.response.CursorPage;
+import employee.web.dto.response.EmployeeBatchResponse;
+import employee.web.dto.response.EmployeeImportResponse;
 import employee.web.dto.response.contracts.Employee;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.UUID;
 
 @Slf4j
 @RestController
+@Profile("!reactive")
 @RequestMapping("/employees")
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, ObjectMapper objectMapper) {
         this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
     public EmployeeEntity createEmployee(@Valid @RequestBody EmployeeRequest request) {
-        log.info("Received request to create employee: {}", request);
+        log.info("Received request to create employee: {}", Payloads.summary(request));
         return employeeService.createEmployee(request);
     }
 
+    // JSON array or NDJSON body, parsed lazily row by row
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public EmployeeImportResponse importEmployees(HttpServletRequest request) throws IOException {
+        log.info("Received request to import employees: {}", request.getContentType());
+        try (MappingIterator<EmployeeRequest> requests = objectMapper.readerFor(EmployeeRequest.class).readValues(request.getInputStream())) {
+            return employeeService.importEmployees(requests);
+        }
+    }
+
     @GetMapping("/{id}")
     public Employee getEmployee(@PathVariable UUID id, @RequestParam(defaultValue = "false") boolean extraInfo) {
         log.info("Received request to get employee: {}, {}", id, extraInfo);
         return employeeService.readEmployee(id, extraInfo);
     }
 
+    @PostMapping("/batch")
+    public EmployeeBatchResponse getEmployees(@Valid @RequestBody EmployeeBatchRequest request) {
+        log.info("Received request to get batch of employees: {}", request.getIds().size());
+        return employeeService.readEmployees(request.getIds());
+    }
+
     @PutMapping("/{id}")
     public EmployeeEntity updateEmployee(@PathVariable UUID id, @Valid @RequestBody EmployeeRequest request) {
-        log.info("Received request to update employee: {}, {}", id, request);
+        log.info("Received request to update employee: {}, {}", id, Payloads.summary(request));
         return employeeService.updateEmployee(id, request);
     }
 
@@ -55,4 +85,30 @@ public class EmployeeController {
         return employeeService.getAllEmployees(pageable, extraInfo);
     }
 
+    @GetMapping("/scroll")
+    public CursorPage<? extends Employee> scrollEmployees(@RequestParam(required = false) String cursor,
+                                                          @RequestParam(defaultValue = "20") int size,
+                                                          @RequestParam(defaultValue = "false") boolean extraInfo,
+                                                          @RequestParam(defaultValue = "false") boolean withTotal) {
+        log.info("Received request to scroll employees: {}, {}, {}, {}", cursor, size, extraInfo, withTotal);
+        return employeeService.getEmployeesAfter(cursor, size, extraInfo, withTotal);
+    }
+
+    @GetMapping(params = "companyId")
+    public CursorPage<? extends Employee> getCompanyEmployees(@RequestParam UUID companyId,
+                                                              @RequestParam(required = false) String cursor,
+                                                              @RequestParam(defaultValue = "20") int size,
+                                                              @RequestParam(defaultValue = "false") boolean extraInfo,
+                                                              @RequestParam(defaultValue = "false") boolean withTotal) {
+        log.info("Received request to get company employees: {}, {}, {}, {}, {}", companyId, cursor, size, extraInfo, withTotal);
+        return employeeService.getCompanyEmployees(companyId, cursor, size, extraInfo, withTotal);
+    }
+
+    @GetMapping("/export")
+    public void exportEmployees(HttpServletResponse response) throws IOException {
+        log.info("Received request to export employees");
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        employeeService.exportEmployees(response.getOutputStream());
+    }
+
 }
@@ -1,6 +1,9 @@
 package employee.web.controllers;
 
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
 import employee.web.controllers.exceptions.EmployeeNotFoundException;
+import employee.web.controllers.exceptions.InvalidCursorException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -14,6 +17,22 @@ public class ExceptionHandlerController {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<String> handleInvalidCursor(InvalidCursorException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+
+    // concurrent update of the same employee, the client may retry with the current state
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleConcurrentUpdate(OptimisticLockingFailureException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body("Employee was changed concurrently, retry the request");
+    }
+
+    @ExceptionHandler(RuntimeJsonMappingException.class)
+    public ResponseEntity<String> handleMalformedRow(RuntimeJsonMappingException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Malformed row: " + ex.getMessage());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handleGeneral(Exception ex) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error: " + ex.getMessage());
@@ -0,0 +1,43 @@
+package employee.web.controllers;
+
+import employee.service.employee.contracts.ReactiveEmployeeService;
+import employee.web.dto.response.contracts.Employee;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Read endpoints of the reactive profile, write endpoints stay on the servlet instances
+ */
+@Slf4j
+@RestController
+@Profile("reactive")
+@RequestMapping("/employees")
+public class ReactiveEmployeeController {
+
+    private final ReactiveEmployeeService employeeService;
+
+    @Autowired
+    public ReactiveEmployeeController(ReactiveEmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @GetMapping("/{id}")
+    public Mono<Employee> getEmployee(@PathVariable UUID id, @RequestParam(defaultValue = "false") boolean extraInfo) {
+        log.info("Received request to get employee: {}, {}", id, extraInfo);
+        return employeeService.readEmployee(id, extraInfo);
+    }
+
+    @GetMapping("/all")
+    public Mono<Page<? extends Employee>> getAllEmployees(Pageable pageable, @RequestParam(defaultValue = "false") boolean extraInfo) {
+        log.info("Received request to get all employees: {}, {}", pageable, extraInfo);
+        return employeeService.getAllEmployees(pageable, extraInfo);
+    }
+
+}
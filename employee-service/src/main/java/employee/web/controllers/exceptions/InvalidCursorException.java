@@ -0,0 +1,7 @@
+package employee.web.controllers.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super("Cursor \"" + cursor + "\" is invalid");
+    }
+}
@@ -0,0 +1,21 @@
+package employee.web.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBatchRequest {
+
+    @NotEmpty(message = "Employee ids are required: min >= 1")
+    @Size(max = 1000, message = "Employee ids are limited: max <= 1000")
+    private List<UUID> ids;
+
+}
@@ -0,0 +1,14 @@
+package employee.web.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private String nextCursor; // null on the last page
+    private Long totalElements; // null unless requested
+}
@@ -0,0 +1,14 @@
+package employee.web.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class EmployeeBatchResponse {
+    private List<EmployeeResponse> employees;
+    private List<UUID> missingIds;
+}
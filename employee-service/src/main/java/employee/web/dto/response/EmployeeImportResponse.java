@@ -0,0 +1,14 @@
+package employee.web.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class EmployeeImportResponse {
+    private int created;
+    private int rejected;
+    private List<EmployeeImportRow> rows;
+}
@@ -0,0 +1,15 @@
+package employee.web.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class EmployeeImportRow {
+    private int index;
+    private UUID id; // null if rejected
+    private List<String> errors;
+}
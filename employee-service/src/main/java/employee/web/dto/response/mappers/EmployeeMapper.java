@@ -1,6 +1,7 @@
 package employee.web.dto.response.mappers;
 
 import employee.repository.entities.EmployeeEntity;
+import employee.repository.reactive.EmployeeRow;
 import employee.web.dto.request.EmployeeRequest;
 import employee.web.dto.response.CompanyResponse;
 import employee.web.dto.response.EmployeeFullResponse;
@@ -22,6 +23,16 @@ public class EmployeeMapper {
         );
     }
 
+    public EmployeeEntity toEntity(EmployeeRow row) {
+        return new EmployeeEntity(
+                row.getId(),
+                row.getFirstName(),
+                row.getLastName(),
+                row.getPhone(),
+                row.getCompanyId()
+        );
+    }
+
     public EmployeeResponse toResponse(EmployeeEntity entity) {
         return new EmployeeResponse(
                 entity.getId(),
@@ -0,0 +1,54 @@
+package employee.web.logging;
+
+import employee.service.configurations.PayloadLoggingConfiguration;
+import employee.service.logging.SampledRequestTurboFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Decides per request whether its INFO lines are logged, with the rate of the handling controller method.
+ * Unsampled requests are marked in the MDC and their lines denied by SampledRequestTurboFilter.
+ */
+@Component
+public class RequestLogSamplingInterceptor implements HandlerInterceptor {
+
+    private final double SAMPLE_RATE;
+    private final Map<String, Double> ENDPOINT_SAMPLE_RATES;
+
+    @Autowired
+    public RequestLogSamplingInterceptor(PayloadLoggingConfiguration payloadLoggingConfiguration) {
+        this.SAMPLE_RATE = payloadLoggingConfiguration.getSampleRate();
+        this.ENDPOINT_SAMPLE_RATES = Arrays.stream(payloadLoggingConfiguration.getEndpointSampleRates().split(","))
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .map(entry -> entry.split("=", 2))
+                .collect(Collectors.toMap(entry -> entry[0].trim(), entry -> Double.parseDouble(entry[1].trim())));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        double rate = handler instanceof HandlerMethod method
+                ? ENDPOINT_SAMPLE_RATES.getOrDefault(method.getMethod().getName(), SAMPLE_RATE)
+                : SAMPLE_RATE;
+        if (rate < 1.0 && ThreadLocalRandom.current().nextDouble() >= rate) {
+            MDC.put(SampledRequestTurboFilter.SAMPLED, "false");
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        MDC.remove(SampledRequestTurboFilter.SAMPLED);
+    }
+
+}
@@ -0,0 +1,103 @@
+package employee.service.employee.implementations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import employee.repository.EmployeeRepository;
+import employee.repository.entities.EmployeeEntity;
+import employee.service.company.CompanyCache;
+import employee.service.configurations.EmployeeImportConfiguration;
+import employee.service.kafka.KafkaProducerService;
+import employee.service.pagination.KeysetCursor;
+import employee.web.controllers.exceptions.InvalidCursorException;
+import employee.web.dto.response.CursorPage;
+import employee.web.dto.response.mappers.EmployeeMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmployeeServiceImplTest {
+
+    private final UUID companyId = UUID.randomUUID();
+    private final EmployeeEntity first = employee("Adams", companyId);
+    private final EmployeeEntity second = employee("Baker", companyId);
+    private final EmployeeEntity third = employee("Clark", companyId);
+
+    private final EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+
+    private EmployeeServiceImpl employeeService;
+
+    @BeforeEach
+    void setUp() {
+        employeeService = new EmployeeServiceImpl(employeeRepository, mock(KafkaProducerService.class), mock(CompanyCache.class),
+                new EmployeeMapper(), mock(EntityManager.class), new ObjectMapper(), mock(Validator.class),
+                mock(EmployeeImportConfiguration.class), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void scrollCursorIsKeyedByLastName() {
+        when(employeeRepository.findFirstKeysetPage(PageRequest.of(0, 3))).thenReturn(List.of(first, second, third));
+
+        CursorPage<?> page = employeeService.getEmployeesAfter(null, 2, false, false);
+
+        assertEquals(2, page.getContent().size());
+        assertEquals(new KeysetCursor("Baker", second.getId()), KeysetCursor.decode(page.getNextCursor()));
+
+        employeeService.getEmployeesAfter(page.getNextCursor(), 2, false, false);
+        verify(employeeRepository).findKeysetPageAfter("Baker", second.getId(), PageRequest.of(0, 3));
+    }
+
+    @Test
+    void lastScrollPageHasNoCursor() {
+        when(employeeRepository.findFirstKeysetPage(PageRequest.of(0, 3))).thenReturn(List.of(first, second));
+
+        assertNull(employeeService.getEmployeesAfter(null, 2, false, false).getNextCursor());
+    }
+
+    @Test
+    void companyCursorIsBoundToItsCompany() {
+        when(employeeRepository.findFirstCompanyPage(companyId, PageRequest.of(0, 3))).thenReturn(List.of(first, second, third));
+
+        CursorPage<?> page = employeeService.getCompanyEmployees(companyId, null, 2, false, false);
+
+        assertEquals(new KeysetCursor(companyId.toString(), second.getId()), KeysetCursor.decode(page.getNextCursor()));
+
+        employeeService.getCompanyEmployees(companyId, page.getNextCursor(), 2, false, false);
+        verify(employeeRepository).findCompanyPageAfter(companyId, second.getId(), PageRequest.of(0, 3));
+    }
+
+    @Test
+    void companyCursorIsRejectedForAnotherCompany() {
+        String cursor = new KeysetCursor(companyId.toString(), second.getId()).encode();
+
+        assertThrows(InvalidCursorException.class,
+                () -> employeeService.getCompanyEmployees(UUID.randomUUID(), cursor, 2, false, false));
+        verify(employeeRepository, never()).findCompanyPageAfter(any(), any(), any());
+    }
+
+    @Test
+    void scrollCursorIsRejectedByTheCompanyScroll() {
+        String cursor = new KeysetCursor("Baker", second.getId()).encode();
+
+        assertThrows(InvalidCursorException.class,
+                () -> employeeService.getCompanyEmployees(companyId, cursor, 2, false, false));
+    }
+
+    private static EmployeeEntity employee(String lastName, UUID companyId) {
+        return new EmployeeEntity(UUID.randomUUID(), "Jane", lastName, "+1 555 0100", companyId);
+    }
+
+}
@@ -0,0 +1,72 @@
+package employee.service.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import employee.repository.entities.EmployeeEntity;
+import employee.web.dto.response.EmployeeResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PayloadsTest {
+
+    private final Logger fullPayloads = (Logger) LoggerFactory.getLogger("employee.payloads");
+
+    @BeforeEach
+    void summariesOnly() {
+        fullPayloads.setLevel(Level.INFO);
+    }
+
+    @AfterEach
+    void resetLevel() {
+        fullPayloads.setLevel(null);
+    }
+
+    @Test
+    void employeeIsSummarizedWithoutPersonalData() {
+        UUID id = UUID.randomUUID();
+        UUID companyId = UUID.randomUUID();
+
+        String summary = Payloads.summary(new EmployeeEntity(id, "Jane", "Doe", "+1 555 0100", companyId)).toString();
+
+        assertEquals("EmployeeEntity[id=" + id + ", companyId=" + companyId + "]", summary);
+    }
+
+    @Test
+    void collectionListsOnlyTheFirstIds() {
+        List<EmployeeResponse> employees = IntStream.range(0, 12)
+                .mapToObj(i -> new EmployeeResponse(UUID.randomUUID(), "Jane", "Doe", "+1 555 0100", null))
+                .toList();
+
+        String summary = Payloads.summary(employees).toString();
+
+        String firstIds = String.join(", ", employees.stream().limit(5).map(employee -> employee.getId().toString()).toList());
+        assertTrue(summary.endsWith("[size=12, ids=[" + firstIds + ", +7]]"), summary);
+        assertFalse(summary.contains("Jane") || summary.contains("555"), summary);
+    }
+
+    @Test
+    void unknownPayloadIsTruncated() {
+        assertEquals("x".repeat(256) + "…(10000 chars)", Payloads.summary("x".repeat(10_000)).toString());
+        assertEquals("x".repeat(256), Payloads.summary("x".repeat(256)).toString());
+        assertEquals("null", Payloads.summary(null).toString());
+    }
+
+    @Test
+    void debugLevelRendersFullPayloads() {
+        EmployeeResponse employee = new EmployeeResponse(UUID.randomUUID(), "Jane", "Doe", "+1 555 0100", null);
+        fullPayloads.setLevel(Level.DEBUG);
+
+        assertTrue(Payloads.summary(employee).toString().contains("Jane"));
+    }
+
+}
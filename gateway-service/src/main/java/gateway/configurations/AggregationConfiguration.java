@@ -0,0 +1,33 @@
+package gateway.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Configuration
+public class AggregationConfiguration {
+
+    @Value("${discovery.service.company-service-uri:http://company-service/}")
+    private String companyService;
+
+    @Value("${discovery.service.employee-service-uri:http://employee-service/}")
+    private String employeeService;
+
+    // ids per employee-service batch request (employee-service accepts max 1000)
+    @Value("${aggregation.batch-size:500}")
+    private int batchSize;
+
+    // concurrent employee-service requests per view
+    @Value("${aggregation.max-in-flight:8}")
+    private int maxInFlight;
+
+    // company views assembled at once, further ones are rejected with 503
+    @Value("${aggregation.max-views:64}")
+    private int maxViews;
+
+    // per request timeout
+    @Value("${aggregation.timeout-ms:2000}")
+    private long timeoutMs;
+
+}
@@ -0,0 +1,46 @@
+package gateway.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Configuration
+public class RateLimitConfiguration {
+
+    @Value("${gateway-rate-limit.enabled:true}")
+    private boolean enabled;
+
+    // proxies in front of the gateway appending to X-Forwarded-For, 0 keys clients by the connection's remote address
+    @Value("${gateway-rate-limit.trusted-proxies:0}")
+    private int trustedProxies;
+
+    // burst and sustained tokens per client address
+    @Value("${gateway-rate-limit.client-capacity:100}")
+    private long clientCapacity;
+
+    @Value("${gateway-rate-limit.client-refill-per-second:50}")
+    private double clientRefillPerSecond;
+
+    // burst and sustained tokens per route, overridable with rate-limit-capacity / rate-limit-refill-per-second route metadata
+    @Value("${gateway-rate-limit.route-capacity:2000}")
+    private long routeCapacity;
+
+    @Value("${gateway-rate-limit.route-refill-per-second:1000}")
+    private double routeRefillPerSecond;
+
+    // tokens taken by a request, extraInfo=true requests fan out downstream
+    @Value("${gateway-rate-limit.cost:1}")
+    private long cost;
+
+    @Value("${gateway-rate-limit.extra-info-cost:5}")
+    private long extraInfoCost;
+
+    // tracked clients, idle ones are dropped first
+    @Value("${gateway-rate-limit.max-clients:100000}")
+    private long maxClients;
+
+    @Value("${gateway-rate-limit.client-idle-ms:600000}")
+    private long clientIdleMs;
+
+}
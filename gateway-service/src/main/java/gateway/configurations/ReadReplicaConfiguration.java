@@ -0,0 +1,42 @@
+package gateway.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+
+@Getter
+@Configuration
+public class ReadReplicaConfiguration {
+
+    public static final String ROUTE_ID = "employee-service-reactive";
+
+    // route the reads served by employee-service reactive replicas to them
+    @Value("${gateway-read-replica.enabled:false}")
+    private boolean enabled;
+
+    // discovery service id of the replicas (employee-service with the reactive profile)
+    @Value("${gateway-read-replica.service-id:employee-service-reactive}")
+    private String serviceId;
+
+    /**
+     * Only the endpoints of ReactiveEmployeeController, ahead of the configured /api/employees/** route;
+     * the id segment is restricted to uuid characters so /export, /scroll and the like stay on the servlet instances
+     */
+    @Bean
+    @ConditionalOnProperty(name = "gateway-read-replica.enabled", havingValue = "true")
+    public RouteLocator readReplicaRoutes(RouteLocatorBuilder builder) {
+        return builder.routes()
+                .route(ROUTE_ID, route -> route.order(-1)
+                        .method(HttpMethod.GET)
+                        .and().path("/api/employees/all", "/api/employees/{id:[0-9a-fA-F-]+}")
+                        .filters(filters -> filters.stripPrefix(1))
+                        .uri("lb://" + serviceId))
+                .build();
+    }
+
+}
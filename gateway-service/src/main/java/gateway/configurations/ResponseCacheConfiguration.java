@@ -0,0 +1,23 @@
+package gateway.configurations;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Configuration
+public class ResponseCacheConfiguration {
+
+    // TTL for routes without cache-ttl-ms metadata, 0 - not cached
+    @Value("${gateway-cache.ttl-ms:0}")
+    private long ttlMs;
+
+    // total cached body bytes
+    @Value("${gateway-cache.maximum-bytes:67108864}")
+    private long maximumBytes;
+
+    // larger responses are passed through uncached
+    @Value("${gateway-cache.max-entry-bytes:1048576}")
+    private int maxEntryBytes;
+
+}
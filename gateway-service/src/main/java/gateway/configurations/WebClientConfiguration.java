@@ -0,0 +1,22 @@
+package gateway.configurations;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@Configuration
+public class WebClientConfiguration {
+
+    @Bean
+    @LoadBalanced
+    public WebClient.Builder getWebClient(ObjectProvider<WebClientCustomizer> customizers) {
+        // Boot customizers: shared codecs and the client observation, which propagates the trace headers
+        WebClient.Builder builder = WebClient.builder();
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        return builder;
+    }
+
+}
@@ -0,0 +1,51 @@
+package gateway.filters;
+
+import gateway.configurations.RateLimitConfiguration;
+import gateway.ratelimit.RateLimiter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Admission control for gateway routes: rejected requests get 429 with Retry-After right away instead of queuing in the backends.
+ * Runs after ResponseCacheFilter, so cached responses take no tokens.
+ */
+@Component
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitConfiguration rateLimitConfiguration;
+
+    @Autowired
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitConfiguration rateLimitConfiguration) {
+        this.rateLimiter = rateLimiter;
+        this.rateLimitConfiguration = rateLimitConfiguration;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null) {
+            return chain.filter(exchange);
+        }
+
+        long cost = "true".equalsIgnoreCase(exchange.getRequest().getQueryParams().getFirst("extraInfo"))
+                ? rateLimitConfiguration.getExtraInfoCost()
+                : rateLimitConfiguration.getCost();
+        return rateLimiter.admit(exchange, route.getId(), route.getMetadata(), cost, () -> chain.filter(exchange));
+    }
+
+    @Override
+    public int getOrder() {
+        // after ResponseCacheFilter, before the routing filters
+        return 0;
+    }
+
+}
@@ -0,0 +1,246 @@
+package gateway.filters;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import gateway.configurations.ResponseCacheConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches successful GET responses of routes with a cache TTL and coalesces concurrent misses of one key.
+ */
+@Component
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    public static final String TTL_METADATA = "cache-ttl-ms";
+    private static final String CACHE_HEADER = "X-Cache";
+
+    private final Cache<String, CachedResponse> cache;
+    private final Map<String, Mono<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    private final long TTL_MS;
+    private final int MAX_ENTRY_BYTES;
+
+    @Autowired
+    public ResponseCacheFilter(ResponseCacheConfiguration cacheConfiguration, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.TTL_MS = cacheConfiguration.getTtlMs();
+        this.MAX_ENTRY_BYTES = cacheConfiguration.getMaxEntryBytes();
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumWeight(cacheConfiguration.getMaximumBytes())
+                .weigher((String key, CachedResponse response) -> response.body().length)
+                .expireAfter(new Expiry<String, CachedResponse>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedResponse response, long currentTime) {
+                        return response.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedResponse response, long currentTime, long currentDuration) {
+                        return response.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedResponse response, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build(), "gateway-response-cache");
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        long ttlMs = ttlFor(route);
+        if (ttlMs <= 0 || request.getMethod() != HttpMethod.GET || bypassesCache(request.getHeaders())) {
+            return chain.filter(exchange);
+        }
+
+        String key = cacheKey(route, request);
+        CachedResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return write(exchange, cached, "HIT");
+        }
+
+        // single flight: followers wait for the leader, an uncacheable response sends them downstream
+        Sinks.One<CachedResponse> sink = Sinks.one();
+        Mono<CachedResponse> leader = inFlight.putIfAbsent(key, sink.asMono());
+        if (leader != null) {
+            meterRegistry.counter("gateway.cache.coalesced").increment();
+            return leader.map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(response -> response.isPresent()
+                            ? write(exchange, response.get(), "COALESCED")
+                            : chain.filter(exchange));
+        }
+
+        ServerHttpResponseDecorator response = new ServerHttpResponseDecorator(exchange.getResponse()) {
+
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                HttpStatusCode status = getStatusCode();
+                if (status == null || !status.is2xxSuccessful() || getHeaders().getContentLength() > MAX_ENTRY_BYTES) {
+                    sink.tryEmitEmpty();
+                    return super.writeWith(body);
+                }
+
+                // chunked bodies have no Content-Length: at most MAX_ENTRY_BYTES are held,
+                // past that the held prefix and the rest are streamed through uncached
+                List<DataBuffer> held = new ArrayList<>();
+                AtomicLong heldBytes = new AtomicLong();
+                Flux<DataBuffer> forwarded = Flux.<DataBuffer>from(body)
+                        .concatMapIterable(buffer -> {
+                            if (heldBytes.get() < 0) {
+                                return List.of(buffer);
+                            }
+                            held.add(buffer);
+                            if (heldBytes.addAndGet(buffer.readableByteCount()) <= MAX_ENTRY_BYTES) {
+                                return List.of();
+                            }
+                            heldBytes.set(-1);
+                            sink.tryEmitEmpty();
+                            List<DataBuffer> prefix = new ArrayList<>(held);
+                            held.clear();
+                            return prefix;
+                        })
+                        .concatWith(Mono.defer(() -> {
+                            if (heldBytes.get() < 0) {
+                                return Mono.empty();
+                            }
+                            byte[] bytes = drain(held);
+                            HttpHeaders headers = new HttpHeaders();
+                            headers.addAll(getHeaders());
+                            headers.remove(HttpHeaders.TRANSFER_ENCODING);
+                            CachedResponse cachedResponse = new CachedResponse(status, headers, bytes, TimeUnit.MILLISECONDS.toNanos(ttlMs));
+                            cache.put(key, cachedResponse);
+                            sink.tryEmitValue(cachedResponse);
+                            return Mono.just(bufferFactory().wrap(bytes));
+                        }))
+                        .doFinally(signal -> held.forEach(DataBufferUtils::release));
+                return super.writeWith(forwarded);
+            }
+
+            // streamed responses (NDJSON exports) are never cached
+            @Override
+            public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+                sink.tryEmitEmpty();
+                return super.writeAndFlushWith(body);
+            }
+        };
+
+        return chain.filter(exchange.mutate().response(response).build())
+                .doFinally(signal -> {
+                    inFlight.remove(key);
+                    sink.tryEmitEmpty();
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        // wraps the response before NettyWriteResponseFilter writes the downstream body
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    private long ttlFor(Route route) {
+        if (route == null) {
+            return 0;
+        }
+        Object ttl = route.getMetadata().get(TTL_METADATA);
+        return ttl == null ? TTL_MS : Long.parseLong(String.valueOf(ttl));
+    }
+
+    /**
+     * Utility method
+     * Request Cache-Control directives, across repeated headers and comma-separated lists, case-insensitive
+     * @param headers request headers
+     * @return true if the client asks for a response from the origin
+     */
+    static boolean bypassesCache(HttpHeaders headers) {
+        for (String value : headers.getOrEmpty(HttpHeaders.CACHE_CONTROL)) {
+            for (String directive : value.split(",")) {
+                String[] parts = directive.split("=", 2);
+                String name = parts[0].trim().toLowerCase(Locale.ROOT);
+                if (name.equals("no-cache") || name.equals("no-store")) {
+                    return true;
+                }
+                if (name.equals("max-age") && parts.length == 2 && isZero(parts[1].trim().replace("\"", ""))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZero(String seconds) {
+        return !seconds.isEmpty() && seconds.chars().allMatch(c -> c == '0');
+    }
+
+    private static byte[] drain(List<DataBuffer> buffers) {
+        byte[] bytes = new byte[buffers.stream().mapToInt(DataBuffer::readableByteCount).sum()];
+        int offset = 0;
+        for (DataBuffer buffer : buffers) {
+            int length = buffer.readableByteCount();
+            buffer.read(bytes, offset, length);
+            offset += length;
+            DataBufferUtils.release(buffer);
+        }
+        buffers.clear();
+        return bytes;
+    }
+
+    private String cacheKey(Route route, ServerHttpRequest request) {
+        StringBuilder key = new StringBuilder(route.getId()).append(' ').append(request.getPath().value());
+        new TreeMap<>(request.getQueryParams()).forEach((name, values) -> key.append('&').append(name).append('=').append(values));
+        key.append(' ').append(request.getHeaders().getAccept());
+        return key.toString();
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, CachedResponse cached, String cacheStatus) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(cached.status());
+        response.getHeaders().addAll(cached.headers());
+        response.getHeaders().setContentLength(cached.body().length);
+        response.getHeaders().set(CACHE_HEADER, cacheStatus);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private record CachedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body, long ttlNanos) {
+    }
+
+}
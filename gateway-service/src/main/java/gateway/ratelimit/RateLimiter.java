@@ -0,0 +1,118 @@
+package gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import gateway.configurations.RateLimitConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * In-memory token buckets per client address and per route, shared by gateway routes and gateway controllers.
+ */
+@Component
+public class RateLimiter {
+
+    public static final String CAPACITY_METADATA = "rate-limit-capacity";
+    public static final String REFILL_METADATA = "rate-limit-refill-per-second";
+
+    private final Cache<String, TokenBucket> clientBuckets;
+    private final Map<String, TokenBucket> routeBuckets = new ConcurrentHashMap<>();
+    private final RateLimitConfiguration rateLimitConfiguration;
+    private final MeterRegistry meterRegistry;
+    private final RemoteAddressResolver remoteAddressResolver;
+
+    @Autowired
+    public RateLimiter(RateLimitConfiguration rateLimitConfiguration, MeterRegistry meterRegistry) {
+        this.rateLimitConfiguration = rateLimitConfiguration;
+        this.meterRegistry = meterRegistry;
+        this.clientBuckets = Caffeine.newBuilder()
+                .maximumSize(rateLimitConfiguration.getMaxClients())
+                .expireAfterAccess(Duration.ofMillis(rateLimitConfiguration.getClientIdleMs()))
+                .build();
+        this.remoteAddressResolver = rateLimitConfiguration.getTrustedProxies() > 0
+                ? XForwardedRemoteAddressResolver.maxTrustedIndex(rateLimitConfiguration.getTrustedProxies())
+                : new RemoteAddressResolver() {
+                };
+    }
+
+    /**
+     * Takes cost tokens from the client and the route bucket, or answers 429 with Retry-After
+     * @param exchange request
+     * @param routeId route bucket key
+     * @param metadata route metadata, may override the route bucket settings
+     * @param cost tokens to take
+     * @param admitted handling of an admitted request
+     * @return admitted handling, or the rejection
+     */
+    public Mono<Void> admit(ServerWebExchange exchange, String routeId, Map<String, Object> metadata, long cost, Supplier<Mono<Void>> admitted) {
+        if (!rateLimitConfiguration.isEnabled()) {
+            return admitted.get();
+        }
+
+        TokenBucket clientBucket = clientBuckets.get(clientKey(exchange), key -> new TokenBucket(
+                rateLimitConfiguration.getClientCapacity(), rateLimitConfiguration.getClientRefillPerSecond()));
+        long clientWait = clientBucket.tryConsume(cost);
+        if (clientWait > 0) {
+            return reject(exchange, routeId, "client", clientWait);
+        }
+
+        TokenBucket routeBucket = routeBuckets.computeIfAbsent(routeId, id -> routeBucket(metadata));
+        long routeWait = routeBucket.tryConsume(cost);
+        if (routeWait > 0) {
+            clientBucket.refund(cost);
+            return reject(exchange, routeId, "route", routeWait);
+        }
+
+        return admitted.get();
+    }
+
+    private TokenBucket routeBucket(Map<String, Object> metadata) {
+        Object capacity = metadata.get(CAPACITY_METADATA);
+        Object refill = metadata.get(REFILL_METADATA);
+        return new TokenBucket(
+                capacity == null ? rateLimitConfiguration.getRouteCapacity() : Long.parseLong(String.valueOf(capacity)),
+                refill == null ? rateLimitConfiguration.getRouteRefillPerSecond() : Double.parseDouble(String.valueOf(refill))
+        );
+    }
+
+    /**
+     * Utility method
+     * Client address: values of X-Forwarded-For left of the trusted proxies are client supplied
+     * and are never used, otherwise a client could pick its own bucket
+     * @param exchange request
+     * @return client bucket key
+     */
+    private String clientKey(ServerWebExchange exchange) {
+        InetSocketAddress address = remoteAddressResolver.resolve(exchange);
+        if (address == null) {
+            return "unknown";
+        }
+        return address.getAddress() == null ? address.getHostString() : address.getAddress().getHostAddress();
+    }
+
+    // waitNanos > 0, rounded up to whole seconds without overflowing at TokenBucket.NEVER
+    private Mono<Void> reject(ServerWebExchange exchange, String routeId, String scope, long waitNanos) {
+        meterRegistry.counter("gateway.rate-limit.rejected", "route", routeId, "scope", scope).increment();
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf((waitNanos - 1) / TimeUnit.SECONDS.toNanos(1) + 1));
+        return response.setComplete();
+    }
+
+}
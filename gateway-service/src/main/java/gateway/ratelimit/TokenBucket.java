@@ -0,0 +1,69 @@
+package gateway.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket refilled lazily from the elapsed time; a refill rate of 0 never refills.
+ */
+public class TokenBucket {
+
+    // wait of a bucket that never refills
+    public static final long NEVER = Long.MAX_VALUE;
+
+    private final long capacity;
+    private final double refillPerNano;
+    private final LongSupplier clock;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(long capacity, double refillPerSecond) {
+        this(capacity, refillPerSecond, System::nanoTime);
+    }
+
+    TokenBucket(long capacity, double refillPerSecond, LongSupplier clock) {
+        if (capacity < 0 || refillPerSecond < 0) {
+            throw new IllegalArgumentException("Token bucket capacity and refill rate must not be negative");
+        }
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.clock = clock;
+        this.state = new AtomicReference<>(new State(capacity, clock.getAsLong()));
+    }
+
+    /**
+     * @param cost tokens to take, capped by capacity
+     * @return 0 if taken, otherwise nanos until that many tokens are available, NEVER if they never are
+     */
+    public long tryConsume(long cost) {
+        long required = Math.min(cost, capacity);
+        while (true) {
+            long now = clock.getAsLong();
+            State current = state.get();
+            double tokens = available(current, now);
+            if (tokens < required) {
+                // the cast saturates at NEVER for very slow refill rates
+                return refillPerNano == 0 ? NEVER : Math.max(1, (long) Math.ceil((required - tokens) / refillPerNano));
+            }
+            if (state.compareAndSet(current, new State(tokens - required, now))) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Returns tokens taken for a request rejected further down
+     * @param cost tokens to give back
+     */
+    public void refund(long cost) {
+        long returned = Math.min(cost, capacity);
+        state.updateAndGet(current -> new State(Math.min(capacity, current.tokens() + returned), current.timestamp()));
+    }
+
+    private double available(State current, long now) {
+        return Math.min(capacity, current.tokens() + (now - current.timestamp()) * refillPerNano);
+    }
+
+    private record State(double tokens, long timestamp) {
+    }
+
+}
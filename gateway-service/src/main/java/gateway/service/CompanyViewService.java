@@ -0,0 +1,163 @@
+package gateway.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import gateway.configurations.AggregationConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assembles the company with its employees without blocking: the company is requested first,
+ * its employeeIds are then resolved by concurrent employee-service batch requests.
+ */
+@Slf4j
+@Service
+public class CompanyViewService {
+
+    private final String COMPANY_SERVICE;
+    private final String EMPLOYEE_SERVICE;
+    private final int BATCH_SIZE;
+    private final int MAX_IN_FLIGHT;
+    private final int MAX_VIEWS;
+    private final Duration TIMEOUT;
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger viewsInFlight = new AtomicInteger();
+
+    @Autowired
+    public CompanyViewService(AggregationConfiguration aggregationConfiguration, WebClient.Builder builder, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.COMPANY_SERVICE = aggregationConfiguration.getCompanyService();
+        this.EMPLOYEE_SERVICE = aggregationConfiguration.getEmployeeService();
+        this.BATCH_SIZE = aggregationConfiguration.getBatchSize();
+        this.MAX_IN_FLIGHT = aggregationConfiguration.getMaxInFlight();
+        this.MAX_VIEWS = aggregationConfiguration.getMaxViews();
+        this.TIMEOUT = Duration.ofMillis(aggregationConfiguration.getTimeoutMs());
+        this.webClient = builder.build();
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Streams {company fields..., "employees": [...], "missingEmployeeIds": [...]}.
+     * Employees are written as their batches arrive, in employeeIds order;
+     * ids unknown to or not answered by employee-service are listed in missingEmployeeIds.
+     * @param id company
+     * @return JSON chunks, errors with the company-service status if the company cannot be read,
+     * or with 503 if aggregation.max-views views are already being assembled
+     */
+    public Flux<String> streamCompanyView(UUID id) {
+        return Flux.defer(() -> {
+            if (viewsInFlight.incrementAndGet() > MAX_VIEWS) {
+                viewsInFlight.decrementAndGet();
+                meterRegistry.counter("gateway.aggregation.rejected").increment();
+                return Flux.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many company views in flight"));
+            }
+            return assembleCompanyView(id).doFinally(signal -> viewsInFlight.decrementAndGet());
+        });
+    }
+
+    private Flux<String> assembleCompanyView(UUID id) {
+        return fetchCompany(id).flatMapMany(company -> {
+
+            Set<String> employeeIds = new LinkedHashSet<>();
+            company.path("employeeIds").forEach(employeeId -> employeeIds.add(employeeId.asText()));
+            company.remove("employeeIds");
+
+            List<List<String>> chunks = new ArrayList<>();
+            List<String> unique = new ArrayList<>(employeeIds);
+            for (int from = 0; from < unique.size(); from += BATCH_SIZE) {
+                chunks.add(unique.subList(from, Math.min(from + BATCH_SIZE, unique.size())));
+            }
+
+            // batches are emitted one at a time, so plain collections are safe here
+            List<String> missing = new ArrayList<>();
+            boolean[] first = {true};
+
+            Flux<String> employees = Flux.fromIterable(chunks)
+                    .flatMapSequential(this::fetchBatch, MAX_IN_FLIGHT)
+                    .concatMapIterable(batch -> {
+                        batch.path("missingIds").forEach(missingId -> missing.add(missingId.asText()));
+                        List<String> parts = new ArrayList<>();
+                        for (JsonNode employee : batch.path("employees")) {
+                            parts.add((first[0] ? "" : ",") + toJson(employee));
+                            first[0] = false;
+                        }
+                        return parts;
+                    });
+
+            String head = toJson(company);
+            return Flux.concat(
+                    Mono.just(head.substring(0, head.length() - 1) + (company.isEmpty() ? "" : ",") + "\"employees\":["),
+                    employees,
+                    Mono.fromCallable(() -> {
+                        if (!missing.isEmpty()) {
+                            meterRegistry.counter("gateway.aggregation.missing-employees").increment(missing.size());
+                            log.warn("Company {} view is missing employees: {}", id, missing);
+                        }
+                        return "],\"missingEmployeeIds\":" + toJson(missing) + "}";
+                    })
+            );
+        });
+    }
+
+    private Mono<ObjectNode> fetchCompany(UUID id) {
+        return webClient.get()
+                .uri(COMPANY_SERVICE + "companies/" + id)
+                .retrieve()
+                .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(),
+                        clientResponse -> clientResponse.bodyToMono(String.class).defaultIfEmpty("").flatMap(
+                                errorBody -> Mono.error(new ResponseStatusException(clientResponse.statusCode(), "CompanyService: " + errorBody))
+                        )
+                )
+                .bodyToMono(ObjectNode.class)
+                .timeout(TIMEOUT);
+    }
+
+    /**
+     * Requests one employees batch; a failed or timed out batch reports its ids as missing
+     * @param ids employees
+     * @return employee-service batch response
+     */
+    private Mono<JsonNode> fetchBatch(List<String> ids) {
+        return webClient.post()
+                .uri(EMPLOYEE_SERVICE + "employees/batch")
+                .bodyValue(Map.of("ids", ids))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(TIMEOUT)
+                .onErrorResume(e -> {
+                    log.warn("Employee batch of {} ids failed: {}", ids.size(), e.getMessage());
+                    return Mono.just(objectMapper.createObjectNode()
+                            .<ObjectNode>set("employees", objectMapper.createArrayNode())
+                            .set("missingIds", objectMapper.valueToTree(ids)));
+                });
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+package gateway.web.controllers;
+
+import gateway.configurations.RateLimitConfiguration;
+import gateway.ratelimit.RateLimiter;
+import gateway.service.CompanyViewService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/companies")
+public class CompanyViewController {
+
+    // rate limit bucket of the view, it is served here rather than by a gateway route
+    public static final String ROUTE_ID = "company-view";
+
+    private final CompanyViewService companyViewService;
+    private final RateLimiter rateLimiter;
+    private final RateLimitConfiguration rateLimitConfiguration;
+
+    @Autowired
+    public CompanyViewController(CompanyViewService companyViewService, RateLimiter rateLimiter, RateLimitConfiguration rateLimitConfiguration) {
+        this.companyViewService = companyViewService;
+        this.rateLimiter = rateLimiter;
+        this.rateLimitConfiguration = rateLimitConfiguration;
+    }
+
+    @GetMapping("/{id}/view")
+    public Mono<Void> getCompanyView(@PathVariable UUID id, ServerWebExchange exchange) {
+        log.info("Received request to get company view: {}", id);
+        // the view fans out to employee-service like extraInfo=true requests
+        return rateLimiter.admit(exchange, ROUTE_ID, Map.of(), rateLimitConfiguration.getExtraInfoCost(), () -> {
+            ServerHttpResponse response = exchange.getResponse();
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            DataBufferFactory buffers = response.bufferFactory();
+            return response.writeWith(companyViewService.streamCompanyView(id)
+                    .map(part -> buffers.wrap(part.getBytes(StandardCharsets.UTF_8))));
+        });
+    }
+
+}
@@ -0,0 +1,200 @@
+package gateway.filters;
+
+import gateway.configurations.ResponseCacheConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ResponseCacheFilterTest {
+
+    private static final int MAX_ENTRY_BYTES = 16;
+
+    private final AtomicInteger downstreamCalls = new AtomicInteger();
+    private final Sinks.Empty<Void> gate = Sinks.empty();
+    private final ResponseCacheFilter filter = new ResponseCacheFilter(configuration(), new SimpleMeterRegistry());
+
+    @Test
+    void secondRequestIsAHit() {
+        GatewayFilterChain chain = downstream(HttpStatus.OK, "{\"id\":", "1}");
+        gate.tryEmitEmpty();
+
+        MockServerWebExchange first = send(route(60_000), chain);
+        MockServerWebExchange second = send(route(60_000), chain);
+
+        assertEquals(1, downstreamCalls.get());
+        assertNull(first.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals("HIT", second.getResponse().getHeaders().getFirst("X-Cache"));
+        assertEquals(HttpStatus.OK, second.getResponse().getStatusCode());
+        assertEquals("{\"id\":1}", body(second));
+    }
+
+    @Test
+    void concurrentMissesAreCoalesced() {
+        GatewayFilterChain chain = downstream(HttpStatus.OK, "{\"id\":1}");
+
+        List<MockServerWebExchange> exchanges = new ArrayList<>();
+        List<CompletableFuture<Void>> responses = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            MockServerWebExchange exchange = exchange(route(60_000));
+            exchanges.add(exchange);
+            responses.add(filter.filter(exchange, chain).toFuture());
+        }
+        gate.tryEmitEmpty();
+        responses.forEach(CompletableFuture::join);
+
+        assertEquals(1, downstreamCalls.get());
+        assertNull(exchanges.get(0).getResponse().getHeaders().getFirst("X-Cache"));
+        for (MockServerWebExchange follower : exchanges.subList(1, exchanges.size())) {
+            assertEquals("COALESCED", follower.getResponse().getHeaders().getFirst("X-Cache"));
+            assertEquals("{\"id\":1}", body(follower));
+        }
+    }
+
+    @Test
+    void errorsAreNotCachedAndFollowersGoDownstream() {
+        assertFollowersGoDownstream(downstream(HttpStatus.INTERNAL_SERVER_ERROR, "{\"error\":1}"), "{\"error\":1}");
+    }
+
+    @Test
+    void oversizedBodiesAreStreamedUncachedAndFollowersGoDownstream() {
+        // chunked: no Content-Length, the limit is only crossed by the third chunk
+        assertFollowersGoDownstream(downstream(HttpStatus.OK, "0123456789", "0123456789", "0123456789"), "0123456789".repeat(3));
+    }
+
+    @Test
+    void routesWithZeroTtlAreNeverCached() {
+        GatewayFilterChain chain = downstream(HttpStatus.OK, "{\"id\":1}");
+        gate.tryEmitEmpty();
+
+        send(route(0), chain);
+        MockServerWebExchange second = send(route(0), chain);
+
+        assertEquals(2, downstreamCalls.get());
+        assertNull(second.getResponse().getHeaders().getFirst("X-Cache"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"no-cache", "No-Cache", "no-store", "NO-STORE", "max-age=0", "Max-Age = 0", "max-age=\"0\"", "max-age=00",
+            "private, no-cache", "max-age=60, no-store", " no-cache=\"Set-Cookie\""})
+    void bypassesOnDirectives(String cacheControl) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CACHE_CONTROL, cacheControl);
+
+        assertTrue(ResponseCacheFilter.bypassesCache(headers));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"max-age=60", "max-age=10", "max-age=", "private", "only-if-cached", "no-transform", "max-stale=0", ""})
+    void usesCacheOtherwise(String cacheControl) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CACHE_CONTROL, cacheControl);
+
+        assertFalse(ResponseCacheFilter.bypassesCache(headers));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"max-age=60", "no-cache"})
+    void readsRepeatedHeaders(String second) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.CACHE_CONTROL, "private");
+        headers.add(HttpHeaders.CACHE_CONTROL, second);
+
+        assertEquals(second.equals("no-cache"), ResponseCacheFilter.bypassesCache(headers));
+    }
+
+    private void assertFollowersGoDownstream(GatewayFilterChain chain, String expectedBody) {
+        MockServerWebExchange leader = exchange(route(60_000));
+        MockServerWebExchange follower = exchange(route(60_000));
+        CompletableFuture<Void> leaderResponse = filter.filter(leader, chain).toFuture();
+        CompletableFuture<Void> followerResponse = filter.filter(follower, chain).toFuture();
+        gate.tryEmitEmpty();
+        leaderResponse.join();
+        followerResponse.join();
+
+        assertEquals(expectedBody, body(leader));
+        assertEquals(expectedBody, body(follower));
+        assertEquals(2, downstreamCalls.get());
+
+        // nothing was cached
+        send(route(60_000), chain);
+        assertEquals(3, downstreamCalls.get());
+    }
+
+    private MockServerWebExchange send(Route route, GatewayFilterChain chain) {
+        MockServerWebExchange exchange = exchange(route);
+        filter.filter(exchange, chain).block(Duration.ofSeconds(5));
+        return exchange;
+    }
+
+    // downstream service: counts calls, answers once the gate opens, body written in chunks without Content-Length
+    private GatewayFilterChain downstream(HttpStatus status, String... chunks) {
+        return exchange -> {
+            downstreamCalls.incrementAndGet();
+            return gate.asMono().then(Mono.defer(() -> {
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(status);
+                return response.writeWith(Flux.fromArray(chunks).map(ResponseCacheFilterTest::buffer));
+            }));
+        };
+    }
+
+    private static MockServerWebExchange exchange(Route route) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/employees/1").build());
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        return exchange;
+    }
+
+    private static Route route(long ttlMs) {
+        return Route.builder()
+                .id("employee-service")
+                .uri("http://localhost")
+                .predicate(exchange -> true)
+                .metadata(ResponseCacheFilter.TTL_METADATA, ttlMs)
+                .build();
+    }
+
+    private static DataBuffer buffer(String chunk) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(chunk.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String body(MockServerWebExchange exchange) {
+        return exchange.getResponse().getBodyAsString().block(Duration.ofSeconds(5));
+    }
+
+    private static ResponseCacheConfiguration configuration() {
+        ResponseCacheConfiguration configuration = mock(ResponseCacheConfiguration.class);
+        when(configuration.getTtlMs()).thenReturn(0L);
+        when(configuration.getMaximumBytes()).thenReturn(1L << 20);
+        when(configuration.getMaxEntryBytes()).thenReturn(MAX_ENTRY_BYTES);
+        return configuration;
+    }
+
+}
@@ -0,0 +1,117 @@
+package gateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void takesTokensUntilEmptyAndReportsTheWait() {
+        TokenBucket bucket = new TokenBucket(10, 5, now::get);
+
+        assertEquals(0, bucket.tryConsume(4));
+        assertEquals(0, bucket.tryConsume(6));
+        // 1 token at 5 per second
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(200), bucket.tryConsume(1));
+    }
+
+    @Test
+    void costAboveCapacityIsCappedByCapacity() {
+        TokenBucket bucket = new TokenBucket(10, 5, now::get);
+
+        assertEquals(0, bucket.tryConsume(50));
+        assertEquals(TimeUnit.SECONDS.toNanos(2), bucket.tryConsume(50));
+    }
+
+    @Test
+    void refillsFromElapsedTimeUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(10, 5, now::get);
+        assertEquals(0, bucket.tryConsume(10));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(0, bucket.tryConsume(5));
+        assertTrue(bucket.tryConsume(1) > 0);
+
+        now.addAndGet(TimeUnit.HOURS.toNanos(1));
+        assertEquals(0, bucket.tryConsume(10));
+        assertTrue(bucket.tryConsume(1) > 0);
+    }
+
+    @Test
+    void refundReturnsTokensUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(10, 5, now::get);
+        assertEquals(0, bucket.tryConsume(10));
+
+        bucket.refund(3);
+        assertEquals(0, bucket.tryConsume(3));
+        assertTrue(bucket.tryConsume(1) > 0);
+
+        bucket.refund(100);
+        assertEquals(0, bucket.tryConsume(10));
+        assertTrue(bucket.tryConsume(1) > 0);
+    }
+
+    @Test
+    void zeroRefillIsAFixedAllowance() {
+        TokenBucket bucket = new TokenBucket(3, 0, now::get);
+
+        assertEquals(0, bucket.tryConsume(3));
+        now.addAndGet(TimeUnit.DAYS.toNanos(1));
+        assertEquals(TokenBucket.NEVER, bucket.tryConsume(1));
+
+        bucket.refund(1);
+        assertEquals(0, bucket.tryConsume(1));
+    }
+
+    @Test
+    void rejectsNegativeSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(-1, 5));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(10, -5));
+    }
+
+    @Test
+    void concurrentConsumersNeverOverdraw() throws InterruptedException {
+        int capacity = 10_000;
+        TokenBucket bucket = new TokenBucket(capacity, 0, now::get);
+        AtomicInteger taken = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int t = 0; t < 8; t++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < 2 * capacity; i++) {
+                        if (bucket.tryConsume(1) == 0) {
+                            taken.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(capacity, taken.get());
+    }
+
+}
@@ -0,0 +1,62 @@
+plugins {
+    id("java")
+    id("application")
+    id("io.spring.dependency-management") version ("1.1.7")
+}
+
+group = "load-test"
+version = "1.0-SNAPSHOT"
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+
+    // json scenarios and responses
+    implementation("com.fasterxml.jackson.core:jackson-databind")
+
+    // latency histograms
+    implementation("org.hdrhistogram:HdrHistogram:2.2.2")
+
+    // local mesh: embedded kafka and postgres
+    implementation("org.springframework.kafka:spring-kafka-test")
+    implementation("io.zonky.test:embedded-postgres:2.1.0")
+    implementation("org.postgresql:postgresql")
+    runtimeOnly("ch.qos.logback:logback-classic")
+
+    // lombok
+    compileOnly("org.projectlombok:lombok")
+    annotationProcessor("org.projectlombok:lombok")
+
+}
+
+dependencyManagement {
+    imports {
+        mavenBom("org.springframework.boot:spring-boot-dependencies:3.5.4")
+    }
+}
+
+application {
+    mainClass.set("loadtest.LoadDriver")
+}
+
+// embedded kafka and postgres plus the service boot jars, until interrupted
+tasks.register<JavaExec>("localMesh") {
+    group = "application"
+    mainClass.set("loadtest.LocalMesh")
+    classpath = sourceSets["main"].runtimeClasspath
+    workingDir = projectDir
+}
+
+tasks.named<JavaExec>("run") {
+    workingDir = projectDir
+}
+
+// one service against embedded kafka and postgres, fed a synthetic event stream: ./gradlew pipelineBenchmark --args="pipelines/mass-reassignment.json"
+tasks.register<JavaExec>("pipelineBenchmark") {
+    group = "application"
+    mainClass.set("loadtest.pipeline.PipelineBenchmark")
+    classpath = sourceSets["main"].runtimeClasspath
+    workingDir = projectDir
+}
@@ -0,0 +1,84 @@
+package loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measured-phase results of one endpoint. Latency is taken from the intended arrival time,
+ * not from the send time, so a slow system is not hidden by requests that started late.
+ */
+public class EndpointStats {
+
+    private final String name;
+    private final Recorder recorder = new Recorder(3);
+    // accumulated by the reporting thread only
+    private final Histogram total = new Histogram(3);
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final Map<String, LongAdder> errorKinds = new ConcurrentHashMap<>();
+
+    public EndpointStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @param latencyNanos completion time minus intended arrival time
+     * @param error null for a successful response, else status code or exception name
+     */
+    public void record(long latencyNanos, String error) {
+        recorder.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        requests.increment();
+        if (error != null) {
+            errors.increment();
+            errorKinds.computeIfAbsent(error, kind -> new LongAdder()).increment();
+        }
+    }
+
+    // arrival dropped: too many requests in flight
+    public void recordDropped() {
+        requests.increment();
+        errors.increment();
+        errorKinds.computeIfAbsent("dropped", kind -> new LongAdder()).increment();
+    }
+
+    /**
+     * Takes the histogram recorded since the previous call and adds it to the total
+     * @return interval histogram tagged with the endpoint name, latencies in microseconds
+     */
+    public Histogram takeInterval() {
+        Histogram interval = recorder.getIntervalHistogram();
+        interval.setTag(name);
+        total.add(interval);
+        return interval;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Histogram getTotal() {
+        return total;
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public Map<String, Long> getErrorKinds() {
+        Map<String, Long> kinds = new TreeMap<>();
+        errorKinds.forEach((kind, count) -> kinds.put(kind, count.sum()));
+        return kinds;
+    }
+
+}
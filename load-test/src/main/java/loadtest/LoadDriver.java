@@ -0,0 +1,248 @@
+package loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import loadtest.scenario.RequestSpec;
+import loadtest.scenario.Scenario;
+import loadtest.scenario.SeedData;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load driver with per-endpoint HdrHistograms.
+ * Usage: LoadDriver scenario.json [baseUrl] [outputDirectory]
+ */
+public class LoadDriver {
+
+    private final Scenario scenario;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final Random random;
+
+    private final List<RequestSpec> requests;
+    private final List<EndpointStats> endpoints = new ArrayList<>();
+    private final int[] cumulativeWeights;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private SeedData seedData = new SeedData(List.of(), List.of());
+
+    public LoadDriver(Scenario scenario, ObjectMapper objectMapper) {
+        this.scenario = scenario;
+        this.objectMapper = objectMapper;
+        this.random = new Random(scenario.getRandomSeed());
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(scenario.getTimeoutMs()))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        this.requests = scenario.getRequests();
+        this.cumulativeWeights = new int[requests.size()];
+        int sum = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            sum += requests.get(i).getWeight();
+            cumulativeWeights[i] = sum;
+            endpoints.add(new EndpointStats(requests.get(i).getName()));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: LoadDriver scenario.json [baseUrl] [outputDirectory]");
+            System.exit(2);
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Scenario scenario = objectMapper.readValue(Path.of(args[0]).toFile(), Scenario.class);
+        if (args.length > 1) {
+            scenario.setBaseUrl(args[1]);
+        }
+        Path output = args.length > 2
+                ? Path.of(args[2])
+                : Path.of("build", "results", scenario.getName() + "-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        Files.createDirectories(output);
+
+        new LoadDriver(scenario, objectMapper).run(output);
+    }
+
+    public void run(Path output) throws IOException, InterruptedException {
+
+        if (scenario.getSeed() != null) {
+            seedData = new Seeder(httpClient, objectMapper, scenario.getBaseUrl()).seed(scenario.getSeed());
+        }
+
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / scenario.getRatePerSecond());
+        boolean poisson = "poisson".equalsIgnoreCase(scenario.getArrival());
+
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(scenario.getWarmupSeconds());
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(scenario.getDurationSeconds());
+
+        try (PrintStream log = new PrintStream(Files.newOutputStream(output.resolve("latency.hlog")))) {
+            HistogramLogWriter logWriter = new HistogramLogWriter(log);
+            logWriter.outputComment("scenario " + scenario.getName() + ", latency in microseconds");
+            logWriter.outputLogFormatVersion();
+            logWriter.outputStartTime(System.currentTimeMillis());
+            logWriter.outputLegend();
+
+            // warm-up responses are not recorded, their intervals stay empty
+            ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+            AtomicLong sent = new AtomicLong();
+            reporter.scheduleAtFixedRate(() -> report(logWriter, sent, measureFrom), 1, 1, TimeUnit.SECONDS);
+
+            System.out.printf("Warm-up %d s, then %d s measured at %.1f req/s (%s arrivals).%n",
+                    scenario.getWarmupSeconds(), scenario.getDurationSeconds(), scenario.getRatePerSecond(), scenario.getArrival());
+
+            long measured = 0;
+            long intended = start;
+            while (intended < end) {
+                long now = System.nanoTime();
+                if (intended > now) {
+                    LockSupport.parkNanos(intended - now);
+                }
+                boolean measuring = intended >= measureFrom;
+                fire(pick(), intended, measuring);
+                sent.incrementAndGet();
+                if (measuring) {
+                    measured++;
+                }
+                intended += poisson ? (long) (-Math.log(1 - random.nextDouble()) * intervalNanos) : intervalNanos;
+            }
+
+            // outstanding responses, bounded by the request timeout
+            long drainUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(scenario.getTimeoutMs() + 1000);
+            while (inFlight.get() > 0 && System.nanoTime() < drainUntil) {
+                Thread.sleep(10);
+            }
+            reporter.shutdown();
+            reporter.awaitTermination(5, TimeUnit.SECONDS);
+            report(logWriter, sent, measureFrom);
+
+            double achievedRate = measured / (double) scenario.getDurationSeconds();
+            Report report = new Report(scenario, endpoints, achievedRate);
+            System.out.print(report.format());
+            report.write(output, objectMapper);
+            System.out.println("Results written to " + output.toAbsolutePath());
+        }
+    }
+
+    private void fire(int index, long intended, boolean measuring) {
+        EndpointStats stats = endpoints.get(index);
+        if (inFlight.get() >= scenario.getMaxInFlight()) {
+            if (measuring) {
+                stats.recordDropped();
+            }
+            return;
+        }
+
+        inFlight.incrementAndGet();
+        httpClient.sendAsync(toRequest(requests.get(index)), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, e) -> {
+                    long latency = System.nanoTime() - intended;
+                    inFlight.decrementAndGet();
+                    if (!measuring) {
+                        return;
+                    }
+                    if (e != null) {
+                        Throwable cause = e.getCause() != null ? e.getCause() : e;
+                        stats.record(latency, cause.getClass().getSimpleName());
+                    } else {
+                        stats.record(latency, response.statusCode() >= 400 ? String.valueOf(response.statusCode()) : null);
+                    }
+                });
+    }
+
+    private HttpRequest toRequest(RequestSpec spec) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(scenario.getBaseUrl() + render(spec.getPath())))
+                .timeout(Duration.ofMillis(scenario.getTimeoutMs()));
+        spec.getHeaders().forEach(builder::header);
+        if (spec.getBody() != null) {
+            builder.header("Content-Type", "application/json");
+            builder.method(spec.getMethod(), HttpRequest.BodyPublishers.ofString(render(spec.getBody())));
+        } else {
+            builder.method(spec.getMethod(), HttpRequest.BodyPublishers.noBody());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Utility method
+     * Fills {employeeId}, {companyId}, {uuid} and {n} template placeholders
+     * @param template path or body template
+     * @return rendered template
+     */
+    private String render(String template) {
+        ThreadLocalRandom threadRandom = ThreadLocalRandom.current();
+        String rendered = template;
+        if (rendered.contains("{employeeId}")) {
+            rendered = rendered.replace("{employeeId}", pickId(seedData.getEmployeeIds(), threadRandom));
+        }
+        if (rendered.contains("{companyId}")) {
+            rendered = rendered.replace("{companyId}", pickId(seedData.getCompanyIds(), threadRandom));
+        }
+        if (rendered.contains("{uuid}")) {
+            rendered = rendered.replace("{uuid}", UUID.randomUUID().toString());
+        }
+        if (rendered.contains("{n}")) {
+            rendered = rendered.replace("{n}", String.valueOf(sequence.incrementAndGet()));
+        }
+        return rendered;
+    }
+
+    private static String pickId(List<UUID> ids, ThreadLocalRandom random) {
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("Scenario uses seeded ids but has no seed section");
+        }
+        return ids.get(random.nextInt(ids.size())).toString();
+    }
+
+    private int pick() {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return i;
+            }
+        }
+        return cumulativeWeights.length - 1;
+    }
+
+    private void report(HistogramLogWriter logWriter, AtomicLong sent, long measureFrom) {
+        boolean measuring = System.nanoTime() >= measureFrom;
+        long errors = 0;
+        for (EndpointStats endpoint : endpoints) {
+            Histogram interval = endpoint.takeInterval();
+            if (measuring || interval.getTotalCount() > 0) {
+                logWriter.outputIntervalHistogram(interval);
+            }
+            errors += endpoint.getErrors();
+        }
+        System.out.printf("%s sent - %d; in flight - %d; errors - %d.%n",
+                measuring ? "measure" : "warm-up", sent.get(), inFlight.get(), errors);
+    }
+
+}
@@ -0,0 +1,189 @@
+package loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Whole service mesh on one machine with embedded Kafka and Postgres.
+ * Usage: LocalMesh [springProfiles], e.g. LocalMesh virtual-threads
+ */
+public class LocalMesh {
+
+    static final int GATEWAY_PORT = 18080;
+    static final int EMPLOYEE_PORT = 18081;
+    static final int COMPANY_PORT = 18082;
+    static final int KAFKA_PORT = 19092;
+    static final int POSTGRES_PORT = 15432;
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final Path root;
+    private final String profiles;
+    private final List<Process> processes = new ArrayList<>();
+
+    private EmbeddedKafkaKraftBroker kafka;
+    private EmbeddedPostgres postgres;
+
+    public LocalMesh(Path root, String profiles) {
+        this.root = root;
+        this.profiles = profiles;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LocalMesh mesh = new LocalMesh(Path.of("..").toAbsolutePath().normalize(), args.length > 0 ? args[0] : "");
+        Runtime.getRuntime().addShutdownHook(new Thread(mesh::stop));
+        mesh.start();
+        System.out.println("Local mesh is up: gateway http://localhost:" + GATEWAY_PORT + ", logs in build/local-mesh. Ctrl+C stops it.");
+        Thread.currentThread().join();
+    }
+
+    public void start() throws Exception {
+        startInfrastructure();
+        startService("employee-service");
+        startService("company-service");
+        startService("gateway-service");
+    }
+
+    /**
+     * Embedded Kafka and Postgres with the company and employee databases
+     */
+    public void startInfrastructure() throws Exception {
+
+        kafka = new EmbeddedKafkaKraftBroker(1, 6).kafkaPorts(KAFKA_PORT);
+        kafka.afterPropertiesSet();
+
+        postgres = EmbeddedPostgres.builder().setPort(POSTGRES_PORT).start();
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("create database company");
+            statement.execute("create database employee");
+        }
+    }
+
+    /**
+     * Starts a service boot jar and waits until it reports healthy
+     * @param service employee-service, company-service or gateway-service
+     */
+    public void startService(String service) throws IOException, InterruptedException {
+        int port = switch (service) {
+            case "employee-service" -> EMPLOYEE_PORT;
+            case "company-service" -> COMPANY_PORT;
+            case "gateway-service" -> GATEWAY_PORT;
+            default -> throw new IllegalArgumentException("Unknown service: " + service);
+        };
+        startService(service, port, Files.createDirectories(Path.of("build", "local-mesh")));
+    }
+
+    public String getKafkaBootstrapServers() {
+        return kafka.getBrokersAsString();
+    }
+
+    /**
+     * @param database company or employee
+     * @return embedded Postgres database of a service
+     */
+    public DataSource getDataSource(String database) {
+        return postgres.getDatabase("postgres", database);
+    }
+
+    public void stop() {
+        processes.forEach(Process::destroy);
+        for (Process process : processes) {
+            try {
+                process.waitFor();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (kafka != null) {
+            kafka.destroy();
+        }
+        if (postgres != null) {
+            try {
+                postgres.close();
+            } catch (IOException e) {
+                System.err.println("Embedded Postgres did not stop: " + e.getMessage());
+            }
+        }
+    }
+
+    private void startService(String service, int port, Path logs) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-jar", findBootJar(service).toString(),
+                // must be known before application.properties imports the config server
+                "--spring.cloud.config.enabled=false",
+                "--spring.config.additional-location=file:" + Path.of("mesh", service + ".properties").toAbsolutePath(),
+                "--server.port=" + port,
+                "--mesh.kafka-bootstrap-servers=" + kafka.getBrokersAsString(),
+                "--mesh.postgres-port=" + POSTGRES_PORT,
+                "--mesh.employee-port=" + EMPLOYEE_PORT,
+                "--mesh.company-port=" + COMPANY_PORT
+        ));
+        if (!profiles.isBlank()) {
+            command.add("--spring.profiles.active=" + profiles);
+        }
+
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logs.resolve(service + ".log").toFile())
+                .start();
+        processes.add(process);
+        awaitHealthy(service, port, process);
+    }
+
+    private Path findBootJar(String service) throws IOException {
+        Path libs = root.resolve(service).resolve("build").resolve("libs");
+        if (Files.isDirectory(libs)) {
+            try (Stream<Path> jars = Files.list(libs)) {
+                Path jar = jars.filter(path -> path.toString().endsWith(".jar") && !path.toString().endsWith("-plain.jar"))
+                        .findFirst()
+                        .orElse(null);
+                if (jar != null) {
+                    return jar;
+                }
+            }
+        }
+        throw new IllegalStateException("No boot jar in " + libs + ": run ./gradlew bootJar in " + service + " first");
+    }
+
+    private void awaitHealthy(String service, int port, Process process) throws InterruptedException {
+        HttpClient httpClient = HttpClient.newHttpClient();
+        HttpRequest health = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(service + " exited with " + process.exitValue() + ", see build/local-mesh/" + service + ".log");
+            }
+            try {
+                if (httpClient.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    System.out.println(service + " is up on port " + port);
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(1000);
+        }
+        throw new IllegalStateException(service + " is not healthy after " + STARTUP_TIMEOUT.toSeconds() + " s");
+    }
+
+}
@@ -0,0 +1,96 @@
+package loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import loadtest.scenario.Scenario;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Per-endpoint latency percentiles and error rates of the measured phase,
+ * printed and written as report.txt and summary.json
+ */
+public class Report {
+
+    private static final String HEADER = "%-24s %10s %8s %8s %10s %10s %10s %10s%n";
+    private static final String ROW = "%-24s %10d %8d %7.2f%% %10.2f %10.2f %10.2f %10.2f%n";
+
+    private final Scenario scenario;
+    private final List<EndpointStats> endpoints;
+    private final double achievedRate;
+
+    public Report(Scenario scenario, List<EndpointStats> endpoints, double achievedRate) {
+        this.scenario = scenario;
+        this.endpoints = endpoints;
+        this.achievedRate = achievedRate;
+    }
+
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "Scenario %s: target %.1f req/s, achieved %.1f req/s, %s arrivals, %d s measured%n",
+                scenario.getName(), scenario.getRatePerSecond(), achievedRate, scenario.getArrival(), scenario.getDurationSeconds()));
+        out.append(String.format(Locale.ROOT, HEADER, "endpoint", "requests", "errors", "error%", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+
+        Histogram all = new Histogram(3);
+        long requests = 0;
+        long errors = 0;
+        for (EndpointStats endpoint : endpoints) {
+            appendRow(out, endpoint.getName(), endpoint.getRequests(), endpoint.getErrors(), endpoint.getTotal());
+            all.add(endpoint.getTotal());
+            requests += endpoint.getRequests();
+            errors += endpoint.getErrors();
+        }
+        appendRow(out, "TOTAL", requests, errors, all);
+
+        for (EndpointStats endpoint : endpoints) {
+            if (!endpoint.getErrorKinds().isEmpty()) {
+                out.append(String.format(Locale.ROOT, "%s errors: %s%n", endpoint.getName(), endpoint.getErrorKinds()));
+            }
+        }
+        return out.toString();
+    }
+
+    public void write(Path directory, ObjectMapper objectMapper) throws IOException {
+        Files.writeString(directory.resolve("report.txt"), format());
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("scenario", scenario.getName());
+        summary.put("targetRate", scenario.getRatePerSecond());
+        summary.put("achievedRate", achievedRate);
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (EndpointStats endpoint : endpoints) {
+            Histogram histogram = endpoint.getTotal();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("endpoint", endpoint.getName());
+            row.put("requests", endpoint.getRequests());
+            row.put("errors", endpoint.getErrors());
+            row.put("errorKinds", endpoint.getErrorKinds());
+            row.put("p50Ms", millis(histogram, 50));
+            row.put("p99Ms", millis(histogram, 99));
+            row.put("p999Ms", millis(histogram, 99.9));
+            row.put("maxMs", histogram.getMaxValue() / 1000.0);
+            rows.add(row);
+        }
+        summary.put("endpoints", rows);
+        objectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(directory.resolve("summary.json").toFile(), summary);
+    }
+
+    private static void appendRow(StringBuilder out, String name, long requests, long errors, Histogram histogram) {
+        double errorRate = requests == 0 ? 0 : 100.0 * errors / requests;
+        out.append(String.format(Locale.ROOT, ROW, name, requests, errors, errorRate,
+                millis(histogram, 50), millis(histogram, 99), millis(histogram, 99.9), histogram.getMaxValue() / 1000.0));
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+}
@@ -0,0 +1,98 @@
+package loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import loadtest.scenario.SeedData;
+import loadtest.scenario.SeedSpec;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Creates scenario data through the public API, so every run starts from the same shape of data
+ */
+public class Seeder {
+
+    private static final int IMPORT_CHUNK = 5000;
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+
+    public Seeder(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+    }
+
+    public SeedData seed(SeedSpec spec) throws IOException, InterruptedException {
+
+        int assigned = spec.getCompanies() * spec.getEmployeesPerCompany();
+        List<UUID> employeeIds = importEmployees(assigned + spec.getUnassignedEmployees());
+
+        List<UUID> companyIds = new ArrayList<>(spec.getCompanies());
+        for (int c = 0; c < spec.getCompanies(); c++) {
+            List<UUID> members = employeeIds.subList(c * spec.getEmployeesPerCompany(), (c + 1) * spec.getEmployeesPerCompany());
+            Map<String, Object> company = Map.of(
+                    "name", "load-" + UUID.randomUUID(),
+                    "budget", "1000000",
+                    "employeeIds", members
+            );
+            JsonNode created = send("POST", "/api/companies", "application/json", objectMapper.writeValueAsString(company));
+            companyIds.add(UUID.fromString(created.path("id").asText()));
+        }
+
+        System.out.printf("Seeded: employees - %d; companies - %d.%n", employeeIds.size(), companyIds.size());
+        if (spec.getSettleSeconds() > 0) {
+            Thread.sleep(Duration.ofSeconds(spec.getSettleSeconds()));
+        }
+        return new SeedData(employeeIds, companyIds);
+    }
+
+    private List<UUID> importEmployees(int count) throws IOException, InterruptedException {
+        List<UUID> ids = new ArrayList<>(count);
+        for (int from = 0; from < count; from += IMPORT_CHUNK) {
+            StringBuilder ndjson = new StringBuilder();
+            for (int i = from; i < Math.min(from + IMPORT_CHUNK, count); i++) {
+                ndjson.append(objectMapper.writeValueAsString(Map.of(
+                        "firstName", "Load",
+                        "lastName", "Employee" + i,
+                        "phone", "+1 (555) 100-" + i
+                ))).append('\n');
+            }
+            JsonNode imported = send("POST", "/api/employees/import", "application/x-ndjson", ndjson.toString());
+            for (JsonNode row : imported.path("rows")) {
+                if (!row.path("id").isNull()) {
+                    ids.add(UUID.fromString(row.path("id").asText()));
+                }
+            }
+        }
+        if (ids.size() < count) {
+            throw new IllegalStateException("Employee import rejected " + (count - ids.size()) + " of " + count + " rows");
+        }
+        return ids;
+    }
+
+    private JsonNode send(String method, String path, String contentType, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", contentType)
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(method + " " + path + " failed with " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+}
@@ -0,0 +1,438 @@
+package loadtest.pipeline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import loadtest.LocalMesh;
+import org.HdrHistogram.Histogram;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.MemberDescription;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringSerializer;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a synthetic event stream through one service's listeners and measures throughput, commit latency and propagation delay.
+ * Usage: PipelineBenchmark pipeline.json [outputDirectory]
+ */
+public class PipelineBenchmark {
+
+    // pending employees checked per poll, oldest first, and ids per query
+    private static final int APPLIED_WINDOW = 20000;
+    private static final int APPLIED_CHUNK = 5000;
+    // employee buckets keying membership events in company-service
+    private static final int MEMBERSHIP_KEYS = 64;
+
+    private final PipelineSpec spec;
+    private final PipelineTopic topic;
+    private final ObjectMapper objectMapper;
+    private final LocalMesh mesh;
+
+    private final List<UUID> companyIds = new ArrayList<>();
+    private final List<UUID> employeeIds = new ArrayList<>();
+    private int[] eventCompanies;
+    private long[] publishNanos;
+
+    // employee indexes in publish order, handed from the publisher to the observer
+    private final ConcurrentLinkedQueue<Integer> published = new ConcurrentLinkedQueue<>();
+    // [offset, publish nanos] of acknowledged records by partition, in offset order
+    private final Map<Integer, ConcurrentLinkedQueue<long[]>> acknowledged = new ConcurrentHashMap<>();
+    private final AtomicLong acknowledgedEvents = new AtomicLong();
+    private final AtomicLong failedEvents = new AtomicLong();
+    private volatile int publishedRecords;
+    private volatile long publishStart;
+    private volatile long publishEnd;
+
+    // microseconds
+    private final Histogram commitLatency = new Histogram(3);
+    private final Histogram propagationDelay = new Histogram(3);
+
+    // written by the observer
+    private int appliedRows;
+    private long lastAppliedNanos;
+    private long maxLag;
+    private double peakRowsPerSecond;
+
+    public PipelineBenchmark(PipelineSpec spec, ObjectMapper objectMapper, LocalMesh mesh) {
+        this.spec = spec;
+        this.topic = PipelineTopic.of(spec.getTopic());
+        this.objectMapper = objectMapper;
+        this.mesh = mesh;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: PipelineBenchmark pipeline.json [outputDirectory]");
+            System.exit(2);
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        PipelineSpec spec = objectMapper.readValue(Path.of(args[0]).toFile(), PipelineSpec.class);
+        Path output = args.length > 1
+                ? Path.of(args[1])
+                : Path.of("build", "results", "pipeline-" + spec.getName() + "-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        Files.createDirectories(output);
+
+        LocalMesh mesh = new LocalMesh(Path.of("..").toAbsolutePath().normalize(), spec.getProfiles());
+        Runtime.getRuntime().addShutdownHook(new Thread(mesh::stop));
+        mesh.startInfrastructure();
+        mesh.startService(PipelineTopic.of(spec.getTopic()).getService());
+
+        new PipelineBenchmark(spec, objectMapper, mesh).run(output);
+        System.exit(0);
+    }
+
+    public void run(Path output) throws Exception {
+
+        generate();
+        DataSource dataSource = mesh.getDataSource(topic.getDatabase());
+        seed(dataSource);
+
+        Properties adminProperties = new Properties();
+        adminProperties.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, mesh.getKafkaBootstrapServers());
+
+        try (Admin admin = Admin.create(adminProperties);
+             KafkaProducer<String, String> producer = new KafkaProducer<>(producerProperties());
+             Connection connection = dataSource.getConnection()) {
+
+            awaitAssignment(admin);
+            System.out.printf("Publishing %d events (%d employees) to %s.%n", eventCompanies.length, employeeIds.size(), topic.getTopic());
+
+            Thread publisher = Thread.ofPlatform().name("pipeline-publisher").start(() -> publish(producer));
+            observe(admin, connection);
+            publisher.join();
+        }
+
+        PipelineReport report = new PipelineReport(spec, publishedRecords, employeeIds.size(), appliedRows, failedEvents.get(),
+                (publishEnd - publishStart) / 1e9, (lastAppliedNanos - publishStart) / 1e9, peakRowsPerSecond, maxLag,
+                commitLatency, propagationDelay);
+        System.out.print(report.format());
+        report.write(output, objectMapper);
+        System.out.println("Results written to " + output.toAbsolutePath());
+    }
+
+    /**
+     * Utility method
+     * Companies, employees and the company of every event; with a key skew a few companies take most events
+     */
+    private void generate() {
+        Random random = new Random(spec.getRandomSeed());
+        ZipfSampler companies = new ZipfSampler(spec.getCompanies(), spec.getKeySkew());
+
+        for (int c = 0; c < spec.getCompanies(); c++) {
+            companyIds.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        int employees = spec.getCompanies() * spec.getHeadcount();
+        for (int e = 0; e < employees; e++) {
+            employeeIds.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        publishNanos = new long[employees];
+
+        eventCompanies = new int[topic.isBatch() ? spec.getCompanies() : employees];
+        for (int event = 0; event < eventCompanies.length; event++) {
+            eventCompanies[event] = companies.next(random);
+        }
+    }
+
+    private void seed(DataSource dataSource) throws SQLException {
+        int seeded;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            if (topic.getService().equals("employee-service")) {
+                seeded = insert(connection, topic.getSeedSql(), employeeIds.size(), (statement, i) -> {
+                    statement.setObject(1, employeeIds.get(i));
+                    statement.setObject(2, topic.isLeaving() ? companyOf(i) : null);
+                });
+            } else {
+                seeded = insert(connection, topic.getSeedSql(), companyIds.size(), (statement, i) -> {
+                    statement.setObject(1, companyIds.get(i));
+                    statement.setString(2, "Pipeline " + i);
+                });
+                if (topic.isLeaving()) {
+                    seeded += insert(connection, topic.getMembershipSeedSql(), employeeIds.size(), (statement, i) -> {
+                        statement.setObject(1, companyOf(i));
+                        statement.setObject(2, employeeIds.get(i));
+                    });
+                }
+            }
+            connection.commit();
+        }
+        System.out.printf("Seeded %d rows into %s.%n", seeded, topic.getDatabase());
+    }
+
+    private int insert(Connection connection, String sql, int rows, RowBinder binder) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < rows; i++) {
+                binder.bind(statement, i);
+                statement.addBatch();
+                if ((i + 1) % 1000 == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+        return rows;
+    }
+
+    // company of the event touching the employee
+    private UUID companyOf(int employee) {
+        return companyIds.get(eventCompanies[topic.isBatch() ? employee / spec.getHeadcount() : employee]);
+    }
+
+    // offsets of records published before the listeners are assigned would be skipped (auto.offset.reset=latest)
+    private void awaitAssignment(Admin admin) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(120);
+        while (System.nanoTime() < deadline) {
+            ConsumerGroupDescription group = admin.describeConsumerGroups(List.of(topic.getGroup()))
+                    .describedGroups().get(topic.getGroup()).get();
+            for (MemberDescription member : group.members()) {
+                if (member.assignment().topicPartitions().stream().anyMatch(partition -> partition.topic().equals(topic.getTopic()))) {
+                    return;
+                }
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("Consumer group " + topic.getGroup() + " has no partitions of " + topic.getTopic());
+    }
+
+    private Properties producerProperties() {
+        Properties properties = new Properties();
+        properties.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, mesh.getKafkaBootstrapServers());
+        properties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        properties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        properties.put(ProducerConfig.ACKS_CONFIG, "all");
+        properties.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        properties.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+        return properties;
+    }
+
+    private void publish(KafkaProducer<String, String> producer) {
+        long interval = spec.getRatePerSecond() > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / spec.getRatePerSecond()) : 0;
+        byte[] typeToken = topic.getTypeToken().getBytes(StandardCharsets.UTF_8);
+
+        publishStart = System.nanoTime();
+        long intended = publishStart;
+        for (int event = 0; event < eventCompanies.length; event++) {
+            if (interval > 0) {
+                long now = System.nanoTime();
+                if (intended > now) {
+                    LockSupport.parkNanos(intended - now);
+                }
+                intended += interval;
+            }
+
+            int first = topic.isBatch() ? event * spec.getHeadcount() : event;
+            int last = topic.isBatch() ? first + spec.getHeadcount() : first + 1;
+            long sentAt = System.nanoTime();
+            for (int employee = first; employee < last; employee++) {
+                publishNanos[employee] = sentAt;
+            }
+
+            for (ProducerRecord<String, String> record : toRecords(eventCompanies[event], first, last)) {
+                record.headers().add("__TypeId__", typeToken);
+                producer.send(record, (metadata, e) -> {
+                    if (e != null) {
+                        failedEvents.incrementAndGet();
+                        return;
+                    }
+                    acknowledged.computeIfAbsent(metadata.partition(), partition -> new ConcurrentLinkedQueue<>())
+                            .add(new long[]{metadata.offset(), sentAt});
+                    acknowledgedEvents.incrementAndGet();
+                });
+                publishedRecords++;
+            }
+            for (int employee = first; employee < last; employee++) {
+                published.add(employee);
+            }
+        }
+        producer.flush();
+        publishEnd = System.nanoTime();
+    }
+
+    /**
+     * Utility method
+     * Records of one company diff as the services publish them: company-service splits batch events
+     * by membership key, employee-service keys single employee events by the employee
+     * @param company event company
+     * @param first first employee
+     * @param last employee after the last one
+     * @return records
+     */
+    private List<ProducerRecord<String, String>> toRecords(int company, int first, int last) {
+        UUID companyId = companyIds.get(company);
+        List<ProducerRecord<String, String>> records = new ArrayList<>();
+
+        if (topic.isBatch()) {
+            Map<String, List<UUID>> byKey = new LinkedHashMap<>();
+            for (UUID employeeId : employeeIds.subList(first, last)) {
+                byKey.computeIfAbsent(membershipKey(employeeId), key -> new ArrayList<>()).add(employeeId);
+            }
+            for (Map.Entry<String, List<UUID>> chunk : byKey.entrySet()) {
+                Map<String, Object> event = new LinkedHashMap<>();
+                event.put("companyId", companyId);
+                event.put("employeeIds", chunk.getValue());
+                records.add(toRecord(chunk.getKey(), event));
+            }
+            return records;
+        }
+
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("companyId", companyId);
+        event.put("employeeId", employeeIds.get(first));
+        records.add(toRecord(employeeIds.get(first).toString(), event));
+        return records;
+    }
+
+    private ProducerRecord<String, String> toRecord(String key, Map<String, Object> event) {
+        try {
+            return new ProducerRecord<>(topic.getTopic(), key, objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            throw new IllegalStateException("Event cannot be serialized", e);
+        }
+    }
+
+    // company-service KafkaProducerService.membershipKey
+    private static String membershipKey(UUID employeeId) {
+        return "employees-" + Math.floorMod(employeeId.hashCode(), MEMBERSHIP_KEYS);
+    }
+
+    private void observe(Admin admin, Connection connection) throws Exception {
+        ArrayDeque<Integer> pending = new ArrayDeque<>();
+        long committedEvents = 0;
+        int applied = 0;
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(spec.getTimeoutSeconds());
+        long secondStart = System.nanoTime();
+        int appliedAtSecondStart = 0;
+
+        while (applied < employeeIds.size() && System.nanoTime() < deadline) {
+            Thread.sleep(spec.getPollMs());
+
+            Integer next;
+            while ((next = published.poll()) != null) {
+                pending.add(next);
+            }
+
+            committedEvents += pollCommits(admin);
+            int found = pollApplied(connection, pending);
+            applied += found;
+            if (found > 0) {
+                lastAppliedNanos = System.nanoTime();
+            }
+            maxLag = Math.max(maxLag, acknowledgedEvents.get() - committedEvents);
+
+            long now = System.nanoTime();
+            if (now - secondStart >= TimeUnit.SECONDS.toNanos(1)) {
+                double rate = (applied - appliedAtSecondStart) / ((now - secondStart) / 1e9);
+                peakRowsPerSecond = Math.max(peakRowsPerSecond, rate);
+                System.out.printf(Locale.ROOT, "published - %d; committed - %d; applied - %d/%d; lag - %d; rows/s - %.0f.%n",
+                        acknowledgedEvents.get(), committedEvents, applied, employeeIds.size(), acknowledgedEvents.get() - committedEvents, rate);
+                secondStart = now;
+                appliedAtSecondStart = applied;
+            }
+        }
+        appliedRows = applied;
+    }
+
+    /**
+     * Utility method
+     * Records commit latency of acknowledged records below the committed offsets
+     * @return newly committed events
+     */
+    private long pollCommits(Admin admin) throws Exception {
+        Map<TopicPartition, OffsetAndMetadata> offsets = admin.listConsumerGroupOffsets(topic.getGroup())
+                .partitionsToOffsetAndMetadata().get();
+        long now = System.nanoTime();
+        long committed = 0;
+        for (Map.Entry<TopicPartition, OffsetAndMetadata> entry : offsets.entrySet()) {
+            ConcurrentLinkedQueue<long[]> records = acknowledged.get(entry.getKey().partition());
+            if (!entry.getKey().topic().equals(topic.getTopic()) || entry.getValue() == null || records == null) {
+                continue;
+            }
+            long[] record;
+            while ((record = records.peek()) != null && record[0] < entry.getValue().offset()) {
+                commitLatency.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(now - record[1])));
+                records.poll();
+                committed++;
+            }
+        }
+        return committed;
+    }
+
+    /**
+     * Utility method
+     * Records propagation delay of pending employees whose change is visible, oldest APPLIED_WINDOW first
+     * @return newly applied employees
+     */
+    private int pollApplied(Connection connection, ArrayDeque<Integer> pending) throws SQLException {
+        List<Integer> window = new ArrayList<>(Math.min(pending.size(), APPLIED_WINDOW));
+        while (window.size() < APPLIED_WINDOW && !pending.isEmpty()) {
+            window.add(pending.poll());
+        }
+
+        Set<UUID> found = new HashSet<>();
+        try (PreparedStatement statement = connection.prepareStatement(topic.getAppliedSql())) {
+            for (int from = 0; from < window.size(); from += APPLIED_CHUNK) {
+                Object[] ids = window.subList(from, Math.min(from + APPLIED_CHUNK, window.size())).stream()
+                        .map(employeeIds::get)
+                        .toArray();
+                statement.setArray(1, connection.createArrayOf("uuid", ids));
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        found.add(rows.getObject(1, UUID.class));
+                    }
+                }
+            }
+        }
+
+        long now = System.nanoTime();
+        int applied = 0;
+        // not yet applied ones go back to the front, in publish order
+        for (int i = window.size() - 1; i >= 0; i--) {
+            int employee = window.get(i);
+            if (found.contains(employeeIds.get(employee))) {
+                propagationDelay.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(now - publishNanos[employee])));
+                applied++;
+            } else {
+                pending.addFirst(employee);
+            }
+        }
+        return applied;
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement statement, int row) throws SQLException;
+    }
+
+}
@@ -0,0 +1,120 @@
+package loadtest.pipeline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Sustained throughput, consumer lag, commit latency and propagation delay of a pipeline run,
+ * printed and written as report.txt and summary.json
+ */
+public class PipelineReport {
+
+    private static final String HEADER = "%-20s %10s %10s %10s %10s %10s%n";
+    private static final String ROW = "%-20s %10d %10.2f %10.2f %10.2f %10.2f%n";
+
+    private final PipelineSpec spec;
+    private final int events;
+    private final int rows;
+    private final int appliedRows;
+    private final long failedEvents;
+    private final double publishSeconds;
+    private final double applySeconds;
+    private final double peakRowsPerSecond;
+    private final long maxLag;
+    private final Histogram commitLatency;
+    private final Histogram propagationDelay;
+
+    public PipelineReport(PipelineSpec spec, int events, int rows, int appliedRows, long failedEvents,
+                          double publishSeconds, double applySeconds, double peakRowsPerSecond, long maxLag,
+                          Histogram commitLatency, Histogram propagationDelay) {
+        this.spec = spec;
+        this.events = events;
+        this.rows = rows;
+        this.appliedRows = appliedRows;
+        this.failedEvents = failedEvents;
+        this.publishSeconds = publishSeconds;
+        this.applySeconds = applySeconds;
+        this.peakRowsPerSecond = peakRowsPerSecond;
+        this.maxLag = maxLag;
+        this.commitLatency = commitLatency;
+        this.propagationDelay = propagationDelay;
+    }
+
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "Pipeline %s: %d events (%d employees) to %s, key skew %.2f, %s%n",
+                spec.getName(), events, rows, spec.getTopic(), spec.getKeySkew(),
+                spec.getRatePerSecond() > 0 ? "target " + spec.getRatePerSecond() + " events/s" : "unthrottled"));
+        out.append(String.format(Locale.ROOT, "published in %.2f s (%.1f events/s), %d failed%n",
+                publishSeconds, events / publishSeconds, failedEvents));
+        out.append(String.format(Locale.ROOT, "applied %d/%d employees in %.2f s: sustained %.1f events/s, %.1f employees/s, peak %.1f employees/s%n",
+                appliedRows, rows, applySeconds, sustainedEventsPerSecond(), sustainedRowsPerSecond(), peakRowsPerSecond));
+        out.append(String.format(Locale.ROOT, "max consumer lag %d events%n", maxLag));
+        out.append(String.format(Locale.ROOT, HEADER, "delay", "count", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+        appendRow(out, "commit", commitLatency);
+        appendRow(out, "propagation", propagationDelay);
+        if (appliedRows < rows) {
+            out.append(String.format(Locale.ROOT, "%d employees not applied within %d s%n", rows - appliedRows, spec.getTimeoutSeconds()));
+        }
+        return out.toString();
+    }
+
+    public void write(Path directory, ObjectMapper objectMapper) throws IOException {
+        Files.writeString(directory.resolve("report.txt"), format());
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("pipeline", spec.getName());
+        summary.put("topic", spec.getTopic());
+        summary.put("keySkew", spec.getKeySkew());
+        summary.put("targetRate", spec.getRatePerSecond());
+        summary.put("events", events);
+        summary.put("employees", rows);
+        summary.put("appliedEmployees", appliedRows);
+        summary.put("failedEvents", failedEvents);
+        summary.put("publishSeconds", publishSeconds);
+        summary.put("applySeconds", applySeconds);
+        summary.put("sustainedEventsPerSecond", sustainedEventsPerSecond());
+        summary.put("sustainedEmployeesPerSecond", sustainedRowsPerSecond());
+        summary.put("peakEmployeesPerSecond", peakRowsPerSecond);
+        summary.put("maxLag", maxLag);
+        summary.put("commit", percentiles(commitLatency));
+        summary.put("propagation", percentiles(propagationDelay));
+        objectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(directory.resolve("summary.json").toFile(), summary);
+    }
+
+    private double sustainedRowsPerSecond() {
+        return applySeconds <= 0 ? 0 : appliedRows / applySeconds;
+    }
+
+    private double sustainedEventsPerSecond() {
+        return sustainedRowsPerSecond() * events / rows;
+    }
+
+    private static Map<String, Object> percentiles(Histogram histogram) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("count", histogram.getTotalCount());
+        row.put("p50Ms", millis(histogram, 50));
+        row.put("p99Ms", millis(histogram, 99));
+        row.put("p999Ms", millis(histogram, 99.9));
+        row.put("maxMs", histogram.getMaxValue() / 1000.0);
+        return row;
+    }
+
+    private static void appendRow(StringBuilder out, String name, Histogram histogram) {
+        out.append(String.format(Locale.ROOT, ROW, name, histogram.getTotalCount(),
+                millis(histogram, 50), millis(histogram, 99), millis(histogram, 99.9), histogram.getMaxValue() / 1000.0));
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+}
@@ -0,0 +1,33 @@
+package loadtest.pipeline;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Synthetic event stream replayed into one topic of a service running in the local mesh.
+ * Every employee is touched by exactly one event, so each row change can be traced back to its publish.
+ */
+@Data
+@NoArgsConstructor
+public class PipelineSpec {
+
+    private String name;
+    // employee-batch-change-company, employee-batch-clear-company, company-add-employee or company-remove-employee
+    private String topic;
+
+    private int companies = 100;
+    // employees per company; employees per event for the batch topics
+    private int headcount = 100;
+    // Zipf exponent of the company each event goes to or leaves, 0 is uniform
+    private double keySkew = 0;
+
+    // events per second, 0 publishes as fast as the producer accepts them
+    private double ratePerSecond = 0;
+    private int timeoutSeconds = 600;
+    // database and committed offsets polling period, the resolution of the measured delays
+    private long pollMs = 50;
+    // extra Spring profiles of the service, e.g. virtual-threads
+    private String profiles = "";
+    private long randomSeed = 42;
+
+}
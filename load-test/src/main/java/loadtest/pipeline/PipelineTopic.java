@@ -0,0 +1,91 @@
+package loadtest.pipeline;
+
+/**
+ * Replayable topics, with the consuming service and how applied events show up in its database.
+ */
+public enum PipelineTopic {
+
+    EMPLOYEE_BATCH_CHANGE_COMPANY("employee-batch-change-company", "employee-service", "batchChangeCompany", true, false),
+    EMPLOYEE_BATCH_CLEAR_COMPANY("employee-batch-clear-company", "employee-service", "batchClearCompany", true, true),
+    COMPANY_ADD_EMPLOYEE("company-add-employee", "company-service", "addEmployee", false, false),
+    COMPANY_REMOVE_EMPLOYEE("company-remove-employee", "company-service", "removeEmployee", false, true);
+
+    private final String topic;
+    private final String service;
+    private final String typeToken;
+    private final boolean batch;
+    private final boolean leaving;
+
+    PipelineTopic(String topic, String service, String typeToken, boolean batch, boolean leaving) {
+        this.topic = topic;
+        this.service = service;
+        this.typeToken = typeToken;
+        this.batch = batch;
+        this.leaving = leaving;
+    }
+
+    public static PipelineTopic of(String topic) {
+        for (PipelineTopic value : values()) {
+            if (value.topic.equals(topic)) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported topic: " + topic);
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public String getService() {
+        return service;
+    }
+
+    // consumer group of the service listeners
+    public String getGroup() {
+        return service;
+    }
+
+    public String getDatabase() {
+        return service.equals("employee-service") ? "employee" : "company";
+    }
+
+    public String getTypeToken() {
+        return typeToken;
+    }
+
+    // one event carries `headcount` employees
+    public boolean isBatch() {
+        return batch;
+    }
+
+    // employees start out in the company of their event and leave it
+    public boolean isLeaving() {
+        return leaving;
+    }
+
+    // employees must exist to be assigned (company_id is set for leaving ones), companies must exist to take employees
+    public String getSeedSql() {
+        return service.equals("employee-service")
+                ? "insert into employee_table (id, first_name, last_name, phone_number, company_id) values (?, 'Pipeline', 'Employee', '+1 555 0100', ?)"
+                : "insert into company_table (id, company_name, budget) values (?, ?, '1000000')";
+    }
+
+    // company-service memberships of leaving employees
+    public String getMembershipSeedSql() {
+        return "insert into company_employee_ids (company_id, employee_id) values (?, ?)";
+    }
+
+    // ids of employees whose event is applied, out of an array of candidates
+    public String getAppliedSql() {
+        if (service.equals("employee-service")) {
+            return leaving
+                    ? "select id from employee_table where company_id is null and id = any(?)"
+                    : "select id from employee_table where company_id is not null and id = any(?)";
+        }
+        return leaving
+                ? "select candidate.id from unnest(?) as candidate(id) where not exists (select 1 from company_employee_ids m where m.employee_id = candidate.id)"
+                : "select employee_id from company_employee_ids where employee_id = any(?)";
+    }
+
+}
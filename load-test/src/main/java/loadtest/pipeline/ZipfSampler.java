@@ -0,0 +1,28 @@
+package loadtest.pipeline;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Picks ranks 0..n-1 with probability proportional to 1 / (rank + 1)^exponent
+ */
+public class ZipfSampler {
+
+    private final double[] cumulative;
+
+    public ZipfSampler(int n, double exponent) {
+        cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 0; rank < n; rank++) {
+            sum += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+    }
+
+    public int next(Random random) {
+        double value = random.nextDouble() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, value);
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+
+}
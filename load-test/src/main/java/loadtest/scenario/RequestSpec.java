@@ -0,0 +1,23 @@
+package loadtest.scenario;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * One endpoint of the mix. path and body are templates:
+ * {employeeId} and {companyId} take a random seeded id, {uuid} a random UUID, {n} a sequence number.
+ */
+@Data
+@NoArgsConstructor
+public class RequestSpec {
+
+    private String name;
+    private int weight = 1;
+    private String method = "GET";
+    private String path;
+    private String body;
+    private Map<String, String> headers = Map.of();
+
+}
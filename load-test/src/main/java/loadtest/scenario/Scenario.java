@@ -0,0 +1,33 @@
+package loadtest.scenario;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Open-model load scenario: requests arrive at ratePerSecond whatever the response times are,
+ * each one drawn from requests by weight.
+ */
+@Data
+@NoArgsConstructor
+public class Scenario {
+
+    private String name;
+    private String baseUrl = "http://localhost:18080";
+
+    private double ratePerSecond = 100;
+    // constant: evenly spaced arrivals; poisson: exponential inter-arrival times
+    private String arrival = "constant";
+    private int warmupSeconds = 30;
+    private int durationSeconds = 120;
+
+    private long timeoutMs = 2000;
+    // arrivals beyond this many outstanding requests are dropped and counted as errors
+    private int maxInFlight = 10000;
+    private long randomSeed = 42;
+
+    private SeedSpec seed;
+    private List<RequestSpec> requests;
+
+}
@@ -0,0 +1,14 @@
+package loadtest.scenario;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class SeedData {
+    private List<UUID> employeeIds;
+    private List<UUID> companyIds;
+}
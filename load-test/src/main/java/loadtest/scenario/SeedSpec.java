@@ -0,0 +1,21 @@
+package loadtest.scenario;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data created through the gateway before warm-up: employees are imported,
+ * then grouped into companies of employeesPerCompany.
+ */
+@Data
+@NoArgsConstructor
+public class SeedSpec {
+
+    private int companies = 100;
+    private int employeesPerCompany = 50;
+    // employees without a company
+    private int unassignedEmployees = 0;
+    // companies take their employees through Kafka events: wait before warm-up starts
+    private int settleSeconds = 10;
+
+}